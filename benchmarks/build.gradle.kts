@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":core:registration-service"))
+    jmh(project(":core:registration-service-credential-service"))
+    jmh(project(":extensions:registration-service-api"))
+    jmh(testFixtures(project(":core:registration-service-client")))
+    jmh(libs.edc.ext.identity.did.crypto)
+    jmh(libs.ih.ext.credentials.jwt)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    // e.g. -Pjmh.includes=ParticipantStore to run a subset of the benchmarks
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+}
+
+edcBuild {
+    publish.set(false)
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+package org.eclipse.edc.registration.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.iam.did.crypto.key.EcPrivateKeyWrapper;
+import org.eclipse.edc.identityhub.credentials.jwt.JwtCredentialFactory;
+import org.eclipse.edc.identityhub.spi.credentials.model.Credential;
+import org.eclipse.edc.registration.client.TestKeyData;
+import org.eclipse.edc.registration.credential.DefaultOnboardedParticipantCredentialProvider;
+import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.spi.model.ParticipantStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation and signing of the membership credential pushed to each onboarded participant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CredentialSigningBenchmark {
+
+    private final DefaultOnboardedParticipantCredentialProvider credentialProvider = new DefaultOnboardedParticipantCredentialProvider("did:web:dataspace");
+    private final JwtCredentialFactory jwtCredentialFactory = new JwtCredentialFactory(new ObjectMapper());
+    private EcPrivateKeyWrapper privateKey;
+    private Participant participant;
+    private Credential credential;
+
+    @Setup
+    public void setUp() throws Exception {
+        privateKey = new EcPrivateKeyWrapper(JWK.parseFromPEMEncodedObjects(TestKeyData.PRIVATE_KEY_P256).toECKey());
+        participant = Participant.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .did("did:web:participant")
+                .status(ParticipantStatus.AUTHORIZED)
+                .build();
+        credential = credentialProvider.createCredential(participant).getContent();
+    }
+
+    @Benchmark
+    public Credential createCredential() {
+        return credentialProvider.createCredential(participant).getContent();
+    }
+
+    @Benchmark
+    public SignedJWT signCredential() throws Exception {
+        return jwtCredentialFactory.buildSignedJwt(credential, privateKey);
+    }
+
+    @Benchmark
+    public SignedJWT createAndSignCredential() throws Exception {
+        return jwtCredentialFactory.buildSignedJwt(credentialProvider.createCredential(participant).getContent(), privateKey);
+    }
+}
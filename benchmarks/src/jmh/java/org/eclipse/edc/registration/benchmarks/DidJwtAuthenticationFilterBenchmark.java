@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+package org.eclipse.edc.registration.benchmarks;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import org.eclipse.edc.iam.did.crypto.key.EcPrivateKeyWrapper;
+import org.eclipse.edc.iam.did.crypto.key.EcPublicKeyWrapper;
+import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
+import org.eclipse.edc.registration.auth.DidJwtAuthenticationFilter;
+import org.eclipse.edc.registration.auth.PublicKeyCache;
+import org.eclipse.edc.registration.auth.VerifiedTokenCache;
+import org.eclipse.edc.registration.client.TestKeyData;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication of an API request bearing a valid token, with and without the caches of the filter. The public key
+ * is resolved in memory, so that only the work of the filter is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DidJwtAuthenticationFilterBenchmark {
+
+    private static final String ISSUER = "did:web:participant";
+    private static final String AUDIENCE = "http://registration-service/api/authority";
+
+    private final MultivaluedHashMap<String, String> headers = new MultivaluedHashMap<>();
+    private ContainerRequestContext request;
+    private DidJwtAuthenticationFilter filter;
+    private DidJwtAuthenticationFilter filterWithPublicKeyCache;
+    private DidJwtAuthenticationFilter filterWithTokenCache;
+
+    @Setup
+    public void setUp() throws Exception {
+        var privateKey = new EcPrivateKeyWrapper(JWK.parseFromPEMEncodedObjects(TestKeyData.PRIVATE_KEY_P256).toECKey());
+        var publicKey = new EcPublicKeyWrapper(JWK.parseFromPEMEncodedObjects(TestKeyData.PUBLIC_KEY_P256).toECKey());
+        DidPublicKeyResolver resolver = didUrl -> Result.success(publicKey);
+        var monitor = new Monitor() {
+        };
+
+        filter = new DidJwtAuthenticationFilter(monitor, resolver, AUDIENCE);
+        var publicKeyCache = new PublicKeyCache(resolver, did -> { }, Runnable::run, monitor,
+                PublicKeyCache.DEFAULT_REFRESH_AFTER, PublicKeyCache.DEFAULT_EXPIRE_AFTER, PublicKeyCache.DEFAULT_MAX_SIZE, Clock.systemUTC());
+        filterWithPublicKeyCache = new DidJwtAuthenticationFilter(monitor, publicKeyCache, AUDIENCE, null);
+        filterWithTokenCache = new DidJwtAuthenticationFilter(monitor, publicKeyCache, AUDIENCE, new VerifiedTokenCache(VerifiedTokenCache.DEFAULT_MAX_SIZE, Clock.systemUTC()));
+
+        // the token is valid for longer than a benchmark run
+        var claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(ISSUER)
+                .audience(AUDIENCE)
+                .expirationTime(Date.from(Instant.now().plus(Duration.ofDays(1))))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID("key-1").build(), claims);
+        jwt.sign(privateKey.signer());
+        headers.putSingle("Authorization", "Bearer " + jwt.serialize());
+        request = (ContainerRequestContext) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ ContainerRequestContext.class },
+                (proxy, method, args) -> "getHeaders".equals(method.getName()) ? headers : null);
+    }
+
+    @Benchmark
+    public MultivaluedHashMap<String, String> verifyToken() {
+        filter.filter(request);
+        return headers;
+    }
+
+    @Benchmark
+    public MultivaluedHashMap<String, String> verifyTokenWithCachedPublicKey() {
+        filterWithPublicKeyCache.filter(request);
+        return headers;
+    }
+
+    @Benchmark
+    public MultivaluedHashMap<String, String> reuseVerifiedToken() {
+        filterWithTokenCache.filter(request);
+        return headers;
+    }
+}
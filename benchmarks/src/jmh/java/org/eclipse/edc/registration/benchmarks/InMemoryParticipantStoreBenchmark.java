@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+package org.eclipse.edc.registration.benchmarks;
+
+import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.spi.model.ParticipantStatus;
+import org.eclipse.edc.registration.store.InMemoryParticipantStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup of the participants in a given state in the in-memory store, as done by the state machine. The participants
+ * are spread evenly across all states.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InMemoryParticipantStoreBenchmark {
+
+    @Param({ "10000", "100000", "1000000" })
+    private int participantCount;
+
+    private InMemoryParticipantStore store;
+
+    @Setup
+    public void setUp() {
+        var statuses = ParticipantStatus.values();
+        store = new InMemoryParticipantStore();
+        for (var i = 0; i < participantCount; i++) {
+            store.save(Participant.Builder.newInstance()
+                    .id(UUID.randomUUID().toString())
+                    .did("did:web:participant-" + i)
+                    .status(statuses[i % statuses.length])
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Collection<Participant> listParticipantsWithStatus() {
+        return store.listParticipantsWithStatus(ParticipantStatus.AUTHORIZING);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+package org.eclipse.edc.registration.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.registration.model.ParticipantDto;
+import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.spi.model.ParticipantStatus;
+import org.eclipse.edc.registration.transform.ParticipantToParticipantDtoTransformer;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transformation of the participants to DTOs and their JSON serialization, as done by the API when listing the
+ * participants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParticipantListBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int participantCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ParticipantToParticipantDtoTransformer transformer = new ParticipantToParticipantDtoTransformer();
+    private final TransformerContext context = (TransformerContext) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{ TransformerContext.class }, (proxy, method, args) -> null);
+    private List<Participant> participants;
+
+    @Setup
+    public void setUp() {
+        var statuses = ParticipantStatus.values();
+        participants = new ArrayList<>(participantCount);
+        for (var i = 0; i < participantCount; i++) {
+            participants.add(Participant.Builder.newInstance()
+                    .id(UUID.randomUUID().toString())
+                    .did("did:web:participant-" + i)
+                    .status(statuses[i % statuses.length])
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ParticipantDto> transform() {
+        var dtos = new ArrayList<ParticipantDto>(participants.size());
+        for (var participant : participants) {
+            dtos.add(transformer.transform(participant, context));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<ParticipantDto> transformAndSerialize() throws IOException {
+        var dtos = transform();
+        objectMapper.writeValue(OutputStream.nullOutputStream(), dtos);
+        return dtos;
+    }
+}
@@ -25,6 +25,7 @@ dependencies {
     implementation(libs.edc.core.connector)
     implementation(libs.openapi.jackson.databind.nullable)
 
+    testImplementation(libs.awaitility)
     testImplementation(libs.okhttp.mockwebserver)
 
     testFixturesImplementation(libs.jetbrains.annotations)
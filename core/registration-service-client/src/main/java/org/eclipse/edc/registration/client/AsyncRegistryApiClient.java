@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.client;
+
+import org.eclipse.edc.registration.client.model.ParticipantDto;
+import org.eclipse.edc.registration.client.model.ParticipantPage;
+import org.eclipse.edc.registration.client.response.ApiResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking client to access the REST API of the RegistrationService. The requests are sent on the threads of the
+ * underlying HTTP client, and the returned futures complete once the response is received.
+ * <p>
+ * Cancelling a future cancels the corresponding request. A future completes exceptionally if the request cannot be
+ * sent or times out, and with a failed {@link ApiResult} if the API rejects it.
+ */
+public interface AsyncRegistryApiClient {
+
+    /**
+     * Adds (=onboards) a participant to the registry. Note that the identity of the participant is specified in the request headers.
+     *
+     * @see RegistryApiClient#addParticipant()
+     */
+    CompletableFuture<ApiResult<Void>> addParticipant();
+
+    /**
+     * Lists all participants that are currently registered in the dataspace.
+     */
+    CompletableFuture<ApiResult<List<ParticipantDto>>> listParticipants();
+
+    /**
+     * Lists a page of the participants registered in the dataspace, ordered by DID.
+     *
+     * @see RegistryApiClient#listParticipants(int, String)
+     */
+    CompletableFuture<ApiResult<ParticipantPage>> listParticipants(int limit, @Nullable String after);
+
+    /**
+     * Obtains one particular participant identified by a particular DID (transmitted in the header).
+     */
+    CompletableFuture<ApiResult<ParticipantDto>> getParticipant();
+}
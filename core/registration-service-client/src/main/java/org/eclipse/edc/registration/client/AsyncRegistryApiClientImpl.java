@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.eclipse.edc.registration.client.model.ParticipantDto;
+import org.eclipse.edc.registration.client.model.ParticipantPage;
+import org.eclipse.edc.registration.client.response.ApiResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.eclipse.edc.registration.client.RegistryApiClientImpl.NEXT_CURSOR_HEADER;
+
+class AsyncRegistryApiClientImpl implements AsyncRegistryApiClient {
+
+    private final OkHttpClient httpClient;
+    private final String baseUrl;
+    private final ResponseBodyParser parser;
+
+    AsyncRegistryApiClientImpl(OkHttpClient httpClient, String baseUrl, ObjectMapper objectMapper) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.parser = new ResponseBodyParser(objectMapper);
+    }
+
+    @Override
+    public CompletableFuture<ApiResult<Void>> addParticipant() {
+        var request = new Request.Builder()
+                .post(RequestBody.create(new byte[0]))
+                .url(baseUrl + "/registry/participant")
+                .build();
+        return execute(request, response -> ApiResult.success());
+    }
+
+    @Override
+    public CompletableFuture<ApiResult<List<ParticipantDto>>> listParticipants() {
+        var request = new Request.Builder()
+                .url(baseUrl + "/registry/participants")
+                .get()
+                .build();
+        return execute(request, response -> ApiResult.success(parser.read(response, new TypeReference<List<ParticipantDto>>() {
+        })));
+    }
+
+    @Override
+    public CompletableFuture<ApiResult<ParticipantPage>> listParticipants(int limit, @Nullable String after) {
+        var url = HttpUrl.get(baseUrl + "/registry/participants").newBuilder()
+                .addQueryParameter("limit", String.valueOf(limit));
+        if (after != null) {
+            url.addQueryParameter("after", after);
+        }
+        var request = new Request.Builder()
+                .url(url.build())
+                .get()
+                .build();
+        return execute(request, response -> {
+            var participants = parser.read(response, new TypeReference<List<ParticipantDto>>() {
+            });
+            return ApiResult.success(new ParticipantPage(participants, response.header(NEXT_CURSOR_HEADER)));
+        });
+    }
+
+    @Override
+    public CompletableFuture<ApiResult<ParticipantDto>> getParticipant() {
+        var request = new Request.Builder()
+                .url(baseUrl + "/registry/participant")
+                .get()
+                .build();
+        return execute(request, response -> ApiResult.success(parser.read(response, new TypeReference<ParticipantDto>() {
+        })));
+    }
+
+    /**
+     * Enqueues the request, the returned future completes with the mapped response if it is successful. Cancelling the
+     * future cancels the request.
+     */
+    private <T> CompletableFuture<ApiResult<T>> execute(Request request, ResponseMapper<T> mapper) {
+        var future = new CompletableFuture<ApiResult<T>>();
+        var call = httpClient.newCall(request);
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try (response) {
+                    future.complete(response.isSuccessful() ?
+                            mapper.map(response) :
+                            ApiResult.failure(response.code(), response.message()));
+                } catch (IOException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    @FunctionalInterface
+    private interface ResponseMapper<T> {
+        ApiResult<T> map(Response response) throws IOException;
+    }
+}
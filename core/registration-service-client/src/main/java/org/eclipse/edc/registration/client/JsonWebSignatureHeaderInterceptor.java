@@ -15,33 +15,62 @@
 
 package org.eclipse.edc.registration.client;
 
+import com.nimbusds.jwt.JWTParser;
 import okhttp3.Interceptor;
 import okhttp3.Response;
 import org.eclipse.edc.spi.iam.TokenParameters;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.net.http.HttpRequest;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static java.lang.String.format;
 
+/**
+ * Adds a bearer token obtained from the credentials provider to the requests sent to the Registration Service.
+ * <p>
+ * A JWT token is reused until {@code refreshMargin} before its expiration, so that a token is not signed for each
+ * request. Only one thread at a time obtains a new token, the others keep using the current one as long as it has not
+ * expired. Tokens that are not JWTs, or have no expiration, are obtained for each request.
+ */
 public class JsonWebSignatureHeaderInterceptor implements Consumer<HttpRequest.Builder>, Interceptor {
 
+    public static final Duration DEFAULT_REFRESH_MARGIN = Duration.ofSeconds(30);
+
     private final Function<TokenParameters, Result<TokenRepresentation>> credentialsProvider;
     private final String audience;
+    private final long refreshMarginMillis;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CachedToken cachedToken;
+    private volatile boolean cacheable = true;
 
     public JsonWebSignatureHeaderInterceptor(Function<TokenParameters, Result<TokenRepresentation>> credentialsProvider, String audience) {
+        this(credentialsProvider, audience, DEFAULT_REFRESH_MARGIN, Clock.systemUTC());
+    }
+
+    public JsonWebSignatureHeaderInterceptor(Function<TokenParameters, Result<TokenRepresentation>> credentialsProvider, String audience, Duration refreshMargin, Clock clock) {
+        if (refreshMargin.isNegative()) {
+            throw new IllegalArgumentException(format("Invalid token refresh margin %s, must not be negative", refreshMargin));
+        }
         this.credentialsProvider = credentialsProvider;
         this.audience = audience;
+        this.refreshMarginMillis = refreshMargin.toMillis();
+        this.clock = clock;
     }
 
     @Override
     public void accept(HttpRequest.Builder b) {
-        var credentialResult = createCredential();
+        var credentialResult = getCredential();
         b.header("Authorization", format("Bearer %s", credentialResult.getToken()));
     }
 
@@ -49,7 +78,7 @@ public class JsonWebSignatureHeaderInterceptor implements Consumer<HttpRequest.B
     @Override
     public Response intercept(@NotNull Interceptor.Chain chain) throws IOException {
         var request = chain.request();
-        var credential = createCredential();
+        var credential = getCredential();
 
         var newRequest = request.newBuilder()
                 .addHeader("Authorization", format("Bearer %s", credential.getToken()))
@@ -57,6 +86,53 @@ public class JsonWebSignatureHeaderInterceptor implements Consumer<HttpRequest.B
         return chain.proceed(newRequest);
     }
 
+    private TokenRepresentation getCredential() {
+        if (!cacheable) {
+            return createCredential();
+        }
+
+        var cached = cachedToken;
+        var now = clock.millis();
+        if (cached != null && now < cached.refreshAt()) {
+            return cached.token();
+        }
+        if (cached != null && now < cached.expiration()) {
+            // about to expire: one thread refreshes, the others keep using the current token
+            if (!refreshLock.tryLock()) {
+                return cached.token();
+            }
+        } else {
+            refreshLock.lock();
+        }
+
+        try {
+            cached = cachedToken;
+            if (cached != null && clock.millis() < cached.refreshAt()) {
+                return cached.token();
+            }
+            var credential = createCredential();
+            cachedToken = cache(credential);
+            cacheable = cachedToken != null;
+            return credential;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Nullable
+    private CachedToken cache(TokenRepresentation credential) {
+        try {
+            var expirationTime = JWTParser.parse(credential.getToken()).getJWTClaimsSet().getExpirationTime();
+            if (expirationTime == null) {
+                return null;
+            }
+            var expiration = expirationTime.getTime();
+            return new CachedToken(credential, expiration - refreshMarginMillis, expiration);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
     private TokenRepresentation createCredential() {
         var credentialResult = credentialsProvider.apply(TokenParameters.Builder.newInstance()
                 .audience(audience)
@@ -66,4 +142,7 @@ public class JsonWebSignatureHeaderInterceptor implements Consumer<HttpRequest.B
         }
         return credentialResult.getContent();
     }
+
+    private record CachedToken(TokenRepresentation token, long refreshAt, long expiration) {
+    }
 }
@@ -16,9 +16,15 @@ package org.eclipse.edc.registration.client;
 
 
 import org.eclipse.edc.registration.client.model.ParticipantDto;
+import org.eclipse.edc.registration.client.model.ParticipantPage;
+import org.eclipse.edc.registration.client.model.ParticipantStats;
+import org.eclipse.edc.registration.client.model.SyncWatermark;
 import org.eclipse.edc.registration.client.response.ApiResult;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Client to access the REST API of the RegistrationService
@@ -37,6 +43,58 @@ public interface RegistryApiClient {
      */
     ApiResult<List<ParticipantDto>> listParticipants();
 
+    /**
+     * Passes all participants that are currently registered in the dataspace to the consumer, one at a time as they are
+     * received, without holding the whole list in memory.
+     *
+     * @return {@link ApiResult#success()} once all participants were consumed, a failed result otherwise.
+     */
+    ApiResult<Void> forEachParticipant(Consumer<ParticipantDto> consumer);
+
+    /**
+     * Lists a page of the participants registered in the dataspace, ordered by DID.
+     *
+     * @param limit maximum number of participants in the page.
+     * @param after cursor of the page, as returned with the previous one, or null for the first page.
+     */
+    ApiResult<ParticipantPage> listParticipants(int limit, @Nullable String after);
+
+    /**
+     * Iterates over all participants registered in the dataspace, fetching them page by page as the iteration proceeds.
+     * The iterator throws an {@link org.eclipse.edc.spi.EdcException} if a page cannot be fetched.
+     *
+     * @param pageSize number of participants fetched per request.
+     */
+    Iterator<ParticipantDto> iterateParticipants(int pageSize);
+
+    /**
+     * Passes the participants changed since the given watermark to the consumer, oldest change first, fetching them page
+     * by page until there are no more changes. Participants are passed in their current state, so a participant changed
+     * several times since the watermark is passed once, unless it changes again while the pages are fetched.
+     * <p>
+     * The returned watermark is to be passed to the next call, so that only the participants changed in the meantime are
+     * fetched. If a page cannot be fetched, the participants of the previous pages were already consumed, and passing the
+     * same watermark again passes them again.
+     * <p>
+     * Changes are ordered by the time they were saved by the registration service, which only lists them once they are
+     * older than its change feed grace period, so that changes committed late are not missed. A change saved with an
+     * earlier time than the watermark despite it, e.g. by a runtime whose clock lags behind by more than the grace period,
+     * is missed until the participant changes again.
+     * <p>
+     * The sync fails rather than fetching the same page again if a page comes without the position to resume from.
+     *
+     * @param since    watermark returned by the previous call, or {@link SyncWatermark#initial()} to get all participants.
+     * @param pageSize number of participants fetched per request.
+     * @return the watermark of the last participant consumed, or {@code since} if there were no changes.
+     */
+    ApiResult<SyncWatermark> syncParticipants(SyncWatermark since, int pageSize, Consumer<ParticipantDto> consumer);
+
+    /**
+     * Obtains the number of participants registered in the dataspace, in total and per onboarding status, without
+     * listing them.
+     */
+    ApiResult<ParticipantStats> getParticipantStats();
+
     /**
      * Obtains one particular participant identified by a particular DID (transmitted in the header).
      */
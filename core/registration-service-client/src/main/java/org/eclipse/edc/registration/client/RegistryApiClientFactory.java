@@ -17,7 +17,10 @@ package org.eclipse.edc.registration.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.failsafe.RetryPolicy;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.eclipse.edc.connector.core.base.EdcHttpClientImpl;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.TokenParameters;
@@ -25,7 +28,10 @@ import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static org.eclipse.edc.util.configuration.ConfigurationFunctions.propOrEnv;
@@ -35,36 +41,151 @@ import static org.eclipse.edc.util.configuration.ConfigurationFunctions.propOrEn
  */
 public class RegistryApiClientFactory {
 
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 64;
+
     @Setting(type = "integer", value = "Rest api client connect timeout")
     private static final String API_CLIENT_CONNECT_TIMEOUT = "api.client.connect.timeout";
     @Setting(type = "integer", value = "Rest api client read timeout")
     private static final String API_CLIENT_READ_TIMEOUT = "api.client.read.timeout";
+    @Setting(type = "integer", value = "Seconds before its expiration after which the token sent to the API is renewed")
+    private static final String API_CLIENT_TOKEN_REFRESH_MARGIN = "api.client.token.refresh.margin";
+    @Setting(type = "integer", value = "Rest api client timeout for a whole call, including connection, request and response, for asynchronous clients")
+    private static final String API_CLIENT_CALL_TIMEOUT = "api.client.call.timeout";
+    @Setting(type = "integer", value = "Maximum number of idle connections kept open by the shared http client")
+    private static final String API_CLIENT_POOL_MAX_IDLE = "api.client.pool.max.idle";
+    @Setting(type = "integer", value = "Seconds an idle connection of the shared http client is kept open")
+    private static final String API_CLIENT_POOL_KEEP_ALIVE = "api.client.pool.keep.alive";
+    @Setting(type = "integer", value = "Maximum number of concurrent requests of the shared http client")
+    private static final String API_CLIENT_MAX_REQUESTS = "api.client.max.requests";
+    @Setting(type = "integer", value = "Maximum number of concurrent requests to a single host of the shared http client")
+    private static final String API_CLIENT_MAX_REQUESTS_PER_HOST = "api.client.max.requests.per.host";
 
     private RegistryApiClientFactory() {
     }
 
+    /**
+     * Http client shared by the API clients created by this factory, unless another one is passed explicitly.
+     * <p>
+     * Configured with a connection pool keeping up to api.client.pool.max.idle (default is 5) connections open for
+     * api.client.pool.keep.alive (default is 300 seconds), and a dispatcher running up to api.client.max.requests
+     * (default is 64) concurrent requests, of which up to api.client.max.requests.per.host (default is 16) to the same
+     * host. HTTP/2 is used with servers that support it.
+     */
+    public static OkHttpClient sharedHttpClient() {
+        return SharedHttpClient.INSTANCE;
+    }
+
+    /**
+     * Create an http client meant to be shared by several API clients, see {@link #createApiClient(OkHttpClient, String, Function, Monitor, ObjectMapper)}.
+     * The API clients share its connection pool and dispatcher, so that connections to the registration service are
+     * reused across them.
+     *
+     * @param maxIdleConnections Maximum number of idle connections kept open.
+     * @param keepAlive          Duration an idle connection is kept open.
+     * @param maxRequests        Maximum number of concurrent requests.
+     * @param maxRequestsPerHost Maximum number of concurrent requests to a single host.
+     * @return http client.
+     */
+    public static OkHttpClient createHttpClient(int maxIdleConnections, Duration keepAlive, int maxRequests, int maxRequestsPerHost) {
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                // HTTP/2 is negotiated with TLS servers supporting it, HTTP/1.1 is used otherwise
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .build();
+    }
+
+    /**
+     * Create a new instance of {@link RegistryApiClient} configured to access the given URL, using the {@link #sharedHttpClient()}.
+     *
+     * @see #createApiClient(OkHttpClient, String, Function, Monitor, ObjectMapper)
+     */
+    public static RegistryApiClient createApiClient(String baseUri, Function<TokenParameters, Result<TokenRepresentation>> credentialsProvider, Monitor monitor, ObjectMapper objectMapper) {
+        return createApiClient(sharedHttpClient(), baseUri, credentialsProvider, monitor, objectMapper);
+    }
+
     /**
      * Create a new instance of {@link RegistryApiClient} configured to access the given URL.
      * <p>
-     * Configured with connectTimeout (default is 30 seconds) and readTimeout (default is 60 seconds).
+     * Configured with connectTimeout (default is 30 seconds) and readTimeout (default is 60 seconds). A token is reused
+     * until the token refresh margin (default is 30 seconds) before its expiration.
      * Note that the type of {@code credentialsProvider} is modeled on the EDC {@code IdentityService} interface, for easier integration.
      *
+     * @param httpClient          Http client whose connection pool and dispatcher are used by the API client.
      * @param baseUri             API base URL.
      * @param credentialsProvider Provider for client credential.
      * @return API client.
      */
-    public static RegistryApiClient createApiClient(String baseUri, Function<TokenParameters, Result<TokenRepresentation>> credentialsProvider, Monitor monitor, ObjectMapper objectMapper) {
+    public static RegistryApiClient createApiClient(OkHttpClient httpClient, String baseUri, Function<TokenParameters, Result<TokenRepresentation>> credentialsProvider, Monitor monitor, ObjectMapper objectMapper) {
+        var okHttpClient = httpClientBuilder(httpClient, baseUri, credentialsProvider).build();
+
+        var edcClient = new EdcHttpClientImpl(okHttpClient, RetryPolicy.ofDefaults(), monitor);
+
+        return new RegistryApiClientImpl(edcClient, baseUri, objectMapper);
+    }
+
+    /**
+     * Create a new instance of {@link AsyncRegistryApiClient} configured to access the given URL, using the connection
+     * pool of the {@link #sharedHttpClient()}.
+     *
+     * @see #createAsyncApiClient(OkHttpClient, String, Function, ObjectMapper, int)
+     */
+    public static AsyncRegistryApiClient createAsyncApiClient(String baseUri, Function<TokenParameters, Result<TokenRepresentation>> credentialsProvider, ObjectMapper objectMapper, int maxConcurrentRequests) {
+        return createAsyncApiClient(sharedHttpClient(), baseUri, credentialsProvider, objectMapper, maxConcurrentRequests);
+    }
+
+    /**
+     * Create a new instance of {@link AsyncRegistryApiClient} configured to access the given URL.
+     * <p>
+     * Configured like {@link #createApiClient}, with an additional callTimeout (default is 90 seconds) bounding the whole
+     * call. At most {@code maxConcurrentRequests} requests are in flight at the same time, further ones are queued until
+     * a previous one completes. Unlike the synchronous client, failed requests are not retried.
+     *
+     * @param httpClient            Http client whose connection pool is used by the API client.
+     * @param baseUri               API base URL.
+     * @param credentialsProvider   Provider for client credential.
+     * @param maxConcurrentRequests Maximum number of requests in flight.
+     * @return API client.
+     */
+    public static AsyncRegistryApiClient createAsyncApiClient(OkHttpClient httpClient, String baseUri, Function<TokenParameters, Result<TokenRepresentation>> credentialsProvider,
+                                                              ObjectMapper objectMapper, int maxConcurrentRequests) {
+        var callTimeout = Duration.ofSeconds(Integer.parseInt(propOrEnv(API_CLIENT_CALL_TIMEOUT, "90")));
+
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxConcurrentRequests);
+        dispatcher.setMaxRequestsPerHost(maxConcurrentRequests);
+
+        var okHttpClient = httpClientBuilder(httpClient, baseUri, credentialsProvider)
+                .callTimeout(callTimeout)
+                .dispatcher(dispatcher)
+                .build();
+
+        return new AsyncRegistryApiClientImpl(okHttpClient, baseUri, objectMapper);
+    }
+
+    /**
+     * Derives a client from the given one, sharing its connection pool and dispatcher.
+     */
+    private static OkHttpClient.Builder httpClientBuilder(OkHttpClient httpClient, String baseUri, Function<TokenParameters, Result<TokenRepresentation>> credentialsProvider) {
         var connectTimeout = Duration.ofSeconds(Integer.parseInt(propOrEnv(API_CLIENT_CONNECT_TIMEOUT, "30")));
         var readTimeout = Duration.ofSeconds(Integer.parseInt(propOrEnv(API_CLIENT_READ_TIMEOUT, "60")));
+        var tokenRefreshMargin = Duration.ofSeconds(Integer.parseInt(propOrEnv(API_CLIENT_TOKEN_REFRESH_MARGIN, "30")));
 
-        var okHttpClient = new OkHttpClient.Builder()
+        return httpClient.newBuilder()
                 .connectTimeout(connectTimeout)
                 .readTimeout(readTimeout)
-                .addInterceptor(new JsonWebSignatureHeaderInterceptor(credentialsProvider, baseUri))
-                .build();
-
-        var edcClient = new EdcHttpClientImpl(okHttpClient, RetryPolicy.ofDefaults(), monitor);
+                .addInterceptor(new JsonWebSignatureHeaderInterceptor(credentialsProvider, baseUri, tokenRefreshMargin, Clock.systemUTC()));
+    }
 
-        return new RegistryApiClientImpl(edcClient, baseUri, objectMapper);
+    private static final class SharedHttpClient {
+        private static final OkHttpClient INSTANCE = createHttpClient(
+                Integer.parseInt(propOrEnv(API_CLIENT_POOL_MAX_IDLE, "5")),
+                Duration.ofSeconds(Integer.parseInt(propOrEnv(API_CLIENT_POOL_KEEP_ALIVE, "300"))),
+                Integer.parseInt(propOrEnv(API_CLIENT_MAX_REQUESTS, "64")),
+                Integer.parseInt(propOrEnv(API_CLIENT_MAX_REQUESTS_PER_HOST, "16")));
     }
 }
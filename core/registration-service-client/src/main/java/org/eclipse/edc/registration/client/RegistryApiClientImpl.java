@@ -14,30 +14,41 @@
 
 package org.eclipse.edc.registration.client;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.eclipse.edc.registration.client.model.ParticipantDto;
+import org.eclipse.edc.registration.client.model.ParticipantPage;
+import org.eclipse.edc.registration.client.model.ParticipantStats;
+import org.eclipse.edc.registration.client.model.SyncWatermark;
 import org.eclipse.edc.registration.client.response.ApiResult;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.function.Function;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 class RegistryApiClientImpl implements RegistryApiClient {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String NEXT_UPDATED_SINCE_HEADER = "X-Next-Updated-Since";
+
     private final EdcHttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final ResponseBodyParser parser;
     private String baseUrl;
 
     RegistryApiClientImpl(EdcHttpClient httpClient, String baseUrl, ObjectMapper objectMapper) {
         this.baseUrl = baseUrl;
         this.httpClient = httpClient;
-        this.objectMapper = objectMapper;
+        this.parser = new ResponseBodyParser(objectMapper);
     }
 
     @Override
@@ -48,7 +59,7 @@ class RegistryApiClientImpl implements RegistryApiClient {
                 .url(url.toString())
                 .build();
 
-        return execute(request).map(s -> null);
+        return execute(request, response -> null);
     }
 
     @Override
@@ -59,9 +70,105 @@ class RegistryApiClientImpl implements RegistryApiClient {
                 .url(url.toString())
                 .get()
                 .build();
-        var result = execute(request);
 
-        return result.map(as(new TypeReference<>() {
+        return execute(request, response -> parser.read(response, new TypeReference<List<ParticipantDto>>() {
+        }));
+    }
+
+    @Override
+    public ApiResult<Void> forEachParticipant(Consumer<ParticipantDto> consumer) {
+        var url = URI.create(baseUrl + "/registry/participants");
+        var request = new Request.Builder()
+                .url(url.toString())
+                .get()
+                .build();
+
+        return execute(request, response -> {
+            parser.forEachElement(response, ParticipantDto.class, consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public ApiResult<ParticipantPage> listParticipants(int limit, @Nullable String after) {
+        var url = HttpUrl.get(baseUrl + "/registry/participants").newBuilder()
+                .addQueryParameter("limit", String.valueOf(limit));
+        if (after != null) {
+            url.addQueryParameter("after", after);
+        }
+        var request = new Request.Builder()
+                .url(url.build())
+                .get()
+                .build();
+
+        return execute(request, response -> {
+            var participants = parser.read(response, new TypeReference<List<ParticipantDto>>() {
+            });
+            return new ParticipantPage(participants, response.header(NEXT_CURSOR_HEADER));
+        });
+    }
+
+    @Override
+    public Iterator<ParticipantDto> iterateParticipants(int pageSize) {
+        return new PagingIterator(pageSize);
+    }
+
+    @Override
+    public ApiResult<SyncWatermark> syncParticipants(SyncWatermark since, int pageSize, Consumer<ParticipantDto> consumer) {
+        var watermark = since;
+        while (true) {
+            var url = HttpUrl.get(baseUrl + "/registry/participants").newBuilder()
+                    .addQueryParameter("updatedSince", String.valueOf(watermark.getUpdatedSince()))
+                    .addQueryParameter("limit", String.valueOf(pageSize));
+            if (watermark.getAfter() != null) {
+                url.addQueryParameter("after", watermark.getAfter());
+            }
+            var request = new Request.Builder()
+                    .url(url.build())
+                    .get()
+                    .build();
+
+            var current = watermark;
+            var result = execute(request, response -> {
+                var participants = parser.read(response, new TypeReference<List<ParticipantDto>>() {
+                });
+                if (participants == null) {
+                    return ApiResult.<SyncPage>failure(response.code(), "Response to the changes since " + current + " has no body");
+                }
+                if (participants.isEmpty()) {
+                    return ApiResult.success(new SyncPage(current, true));
+                }
+                var next = nextWatermark(response);
+                if (next == null || next.equals(current)) {
+                    // resuming from the same position would fetch the same page again, forever
+                    return ApiResult.<SyncPage>failure(response.code(), "Response to the changes since " + current + " has no valid " +
+                            NEXT_UPDATED_SINCE_HEADER + " and " + NEXT_CURSOR_HEADER + " headers");
+                }
+                participants.forEach(consumer);
+                return ApiResult.success(new SyncPage(next, participants.size() < pageSize));
+            });
+            if (result.failed()) {
+                return ApiResult.failure(result.reason(), result.getFailureMessages().toArray(String[]::new));
+            }
+            var page = result.getContent();
+            if (page.failed()) {
+                return ApiResult.failure(page.reason(), page.getFailureMessages().toArray(String[]::new));
+            }
+            watermark = page.getContent().watermark();
+            if (page.getContent().caughtUp()) {
+                return ApiResult.success(watermark);
+            }
+        }
+    }
+
+    @Override
+    public ApiResult<ParticipantStats> getParticipantStats() {
+        var url = URI.create(baseUrl + "/registry/participants/stats");
+        var request = new Request.Builder()
+                .url(url.toString())
+                .get()
+                .build();
+        return execute(request, response -> parser.read(response, new TypeReference<ParticipantStats>() {
         }));
     }
 
@@ -72,7 +179,7 @@ class RegistryApiClientImpl implements RegistryApiClient {
                 .url(url.toString())
                 .get()
                 .build();
-        return execute(request).map(as(new TypeReference<>() {
+        return execute(request, response -> parser.read(response, new TypeReference<ParticipantDto>() {
         }));
     }
 
@@ -81,35 +188,73 @@ class RegistryApiClientImpl implements RegistryApiClient {
         baseUrl = uri;
     }
 
-    // the TypeReference must be passed here explicitly, otherwise Jackson can't resolve the erased type anymore
-    private <R> Function<String, R> as(TypeReference<R> listTypeReference) {
-        return json -> {
-            try {
-                return objectMapper.readValue(json, listTypeReference);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
-        };
-    }
-
-    private ApiResult<String> execute(Request rq) {
-        try {
-            var response = httpClient.execute(rq);
+    /**
+     * Executes the request, and maps the response if it is successful. The response body is parsed as it is received,
+     * and closed once mapped.
+     */
+    private <T> ApiResult<T> execute(Request rq, ResponseMapper<T> mapper) {
+        try (var response = httpClient.execute(rq)) {
             return response.isSuccessful() ?
-                    ApiResult.success(getMessage(response)) :
+                    ApiResult.success(mapper.map(response)) :
                     ApiResult.failure(response.code(), response.message());
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private String getMessage(Response response) throws IOException {
-        var body = response.body();
-        if (body != null) {
-            var str = body.string();
-            return str.isBlank() ? null : str;
+    @Nullable
+    private static SyncWatermark nextWatermark(Response response) {
+        var updatedSince = response.header(NEXT_UPDATED_SINCE_HEADER);
+        var after = response.header(NEXT_CURSOR_HEADER);
+        if (updatedSince == null || after == null) {
+            return null;
+        }
+        try {
+            return new SyncWatermark(Long.parseLong(updatedSince), after);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Iterator fetching the next page once the current one is consumed.
+     */
+    private class PagingIterator implements Iterator<ParticipantDto> {
+        private final int pageSize;
+        private Iterator<ParticipantDto> current = Collections.emptyIterator();
+        private String nextCursor;
+        private boolean lastPage;
+
+        PagingIterator(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && !lastPage) {
+                var page = listParticipants(pageSize, nextCursor)
+                        .orElseThrow(failure -> new EdcException("Failed to list participants: " + failure.getFailureDetail()));
+                current = page.getParticipants() == null ? Collections.emptyIterator() : page.getParticipants().iterator();
+                nextCursor = page.getNextCursor();
+                lastPage = !page.hasNext();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public ParticipantDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
         }
-        return null;
     }
 
+    private record SyncPage(SyncWatermark watermark, boolean caughtUp) {
+    }
+
+    @FunctionalInterface
+    private interface ResponseMapper<T> {
+        T map(Response response) throws IOException;
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Response;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Parses JSON response bodies directly from the response stream, without buffering them as a whole.
+ */
+class ResponseBodyParser {
+
+    private final ObjectMapper objectMapper;
+
+    ResponseBodyParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads the body of the response as the given type.
+     *
+     * @return the parsed body, null if the response has no body.
+     */
+    // the TypeReference must be passed here explicitly, otherwise Jackson can't resolve the erased type anymore
+    @Nullable
+    <R> R read(Response response, TypeReference<R> typeReference) throws IOException {
+        try (var parser = createParser(response)) {
+            if (parser == null || parser.nextToken() == null) {
+                return null;
+            }
+            return objectMapper.readValue(parser, typeReference);
+        }
+    }
+
+    /**
+     * Reads the body of the response as a JSON array, passing each element to the consumer as soon as it is parsed.
+     */
+    <R> void forEachElement(Response response, Class<R> type, Consumer<R> consumer) throws IOException {
+        try (var parser = createParser(response)) {
+            if (parser == null || parser.nextToken() == null) {
+                return;
+            }
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array but got " + parser.currentToken());
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("Unexpected end of JSON array");
+                }
+                consumer.accept(objectMapper.readValue(parser, type));
+            }
+        }
+    }
+
+    @Nullable
+    private JsonParser createParser(Response response) throws IOException {
+        var body = response.body();
+        return body == null ? null : objectMapper.getFactory().createParser(body.byteStream());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.client.model;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Page of dataspace participants, with the cursor of the next page if there is one.
+ */
+public class ParticipantPage {
+    private final List<ParticipantDto> participants;
+    private final String nextCursor;
+
+    public ParticipantPage(List<ParticipantDto> participants, @Nullable String nextCursor) {
+        this.participants = participants;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ParticipantDto> getParticipants() {
+        return participants;
+    }
+
+    /**
+     * Cursor to pass to get the next page, null on the last page.
+     */
+    @Nullable
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
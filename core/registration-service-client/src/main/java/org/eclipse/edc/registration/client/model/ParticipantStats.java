@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.client.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+/**
+ * Number of dataspace participants, in total and per onboarding status.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ParticipantStats {
+    public static final String JSON_PROPERTY_TOTAL = "total";
+    public static final String JSON_PROPERTY_BY_STATUS = "byStatus";
+    private final long total;
+    private final Map<ParticipantDto.OnboardingStatus, Long> byStatus;
+
+    @JsonCreator
+    public ParticipantStats(@JsonProperty(JSON_PROPERTY_TOTAL) long total,
+                            @JsonProperty(JSON_PROPERTY_BY_STATUS) Map<ParticipantDto.OnboardingStatus, Long> byStatus) {
+        this.total = total;
+        this.byStatus = byStatus == null ? Map.of() : Map.copyOf(byStatus);
+    }
+
+    @JsonProperty(JSON_PROPERTY_TOTAL)
+    public long getTotal() {
+        return total;
+    }
+
+    @JsonProperty(JSON_PROPERTY_BY_STATUS)
+    public Map<ParticipantDto.OnboardingStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    /**
+     * Number of participants in the given onboarding status.
+     */
+    public long count(ParticipantDto.OnboardingStatus status) {
+        return byStatus.getOrDefault(status, 0L);
+    }
+}
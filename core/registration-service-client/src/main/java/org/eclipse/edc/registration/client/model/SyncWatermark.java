@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.client.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Position in the changes of the dataspace participants, up to which a mirror of the registry is in sync: the update time
+ * and DID of the last participant received. It can be serialized, so that a mirror keeps it across restarts.
+ */
+public class SyncWatermark {
+    public static final String JSON_PROPERTY_UPDATED_SINCE = "updatedSince";
+    public static final String JSON_PROPERTY_AFTER = "after";
+    private final long updatedSince;
+    private final String after;
+
+    @JsonCreator
+    public SyncWatermark(@JsonProperty(JSON_PROPERTY_UPDATED_SINCE) long updatedSince,
+                         @JsonProperty(JSON_PROPERTY_AFTER) @Nullable String after) {
+        this.updatedSince = updatedSince;
+        this.after = after;
+    }
+
+    /**
+     * Watermark of a mirror that has not received any participant yet.
+     */
+    public static SyncWatermark initial() {
+        return new SyncWatermark(0, null);
+    }
+
+    @JsonProperty(JSON_PROPERTY_UPDATED_SINCE)
+    public long getUpdatedSince() {
+        return updatedSince;
+    }
+
+    @JsonProperty(JSON_PROPERTY_AFTER)
+    @Nullable
+    public String getAfter() {
+        return after;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (SyncWatermark) o;
+        return updatedSince == that.updatedSince && Objects.equals(after, that.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(updatedSince, after);
+    }
+
+    @Override
+    public String toString() {
+        return "SyncWatermark{updatedSince=" + updatedSince + ", after=" + after + "}";
+    }
+}
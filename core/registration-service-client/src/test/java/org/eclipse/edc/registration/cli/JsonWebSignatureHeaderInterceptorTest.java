@@ -15,6 +15,8 @@
 package org.eclipse.edc.registration.cli;
 
 import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
 import org.eclipse.edc.iam.did.crypto.key.EcPublicKeyWrapper;
 import org.eclipse.edc.registration.client.JsonWebSignatureHeaderInterceptor;
 import org.eclipse.edc.registration.client.TestKeyData;
@@ -25,8 +27,14 @@ import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.net.http.HttpRequest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class JsonWebSignatureHeaderInterceptorTest {
 
@@ -64,4 +72,52 @@ class JsonWebSignatureHeaderInterceptorTest {
         assertThat(authHeaderParts[0]).isEqualTo(BEARER);
         assertThat(authHeaderParts[1]).isEqualTo(token);
     }
+
+    @Test
+    void accept_reusesJwtUntilRefreshMargin() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        var created = new AtomicInteger();
+        var cachingInterceptor = new JsonWebSignatureHeaderInterceptor(parameters -> {
+            created.incrementAndGet();
+            return Result.success(TokenRepresentation.Builder.newInstance().token(jwtExpiringAt(Duration.ofMinutes(10))).build());
+        }, targetUrl, Duration.ofSeconds(30), clock);
+
+        var first = authorization(cachingInterceptor);
+        when(clock.millis()).thenReturn(Duration.ofMinutes(10).minusSeconds(31).toMillis());
+        var second = authorization(cachingInterceptor);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(created).hasValue(1);
+
+        when(clock.millis()).thenReturn(Duration.ofMinutes(10).minusSeconds(30).toMillis());
+        authorization(cachingInterceptor);
+
+        assertThat(created).hasValue(2);
+    }
+
+    @Test
+    void accept_nonJwtToken_isNotReused() {
+        var created = new AtomicInteger();
+        var cachingInterceptor = new JsonWebSignatureHeaderInterceptor(parameters -> {
+            created.incrementAndGet();
+            return Result.success(TokenRepresentation.Builder.newInstance().token(token).build());
+        }, targetUrl);
+
+        authorization(cachingInterceptor);
+        authorization(cachingInterceptor);
+
+        assertThat(created).hasValue(2);
+    }
+
+    private String authorization(JsonWebSignatureHeaderInterceptor interceptor) {
+        var requestBuilder = HttpRequest.newBuilder().uri(URI.create(randomUrl()));
+        interceptor.accept(requestBuilder);
+        return requestBuilder.build().headers().firstValue(AUTHORIZATION).orElseThrow();
+    }
+
+    private static String jwtExpiringAt(Duration expiration) {
+        var claims = new JWTClaimsSet.Builder().expirationTime(new Date(expiration.toMillis())).build();
+        return new PlainJWT(claims).serialize();
+    }
 }
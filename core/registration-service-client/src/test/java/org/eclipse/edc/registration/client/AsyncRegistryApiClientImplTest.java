@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.eclipse.edc.registration.client.model.ParticipantDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AsyncRegistryApiClientImplTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OkHttpClient httpClient = new OkHttpClient();
+    private MockWebServer mockServer;
+    private AsyncRegistryApiClientImpl apiClient;
+
+    @BeforeEach
+    void setup() {
+        mockServer = new MockWebServer();
+        apiClient = new AsyncRegistryApiClientImpl(httpClient, mockServer.url("/api/v1").toString(), objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void addParticipant() throws InterruptedException {
+        mockServer.enqueue(new MockResponse());
+
+        var result = apiClient.addParticipant();
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r.succeeded()).isTrue());
+        var rs = mockServer.takeRequest();
+        assertThat(rs.getPath()).isEqualTo("/api/v1/registry/participant");
+        assertThat(rs.getMethod()).isEqualTo("POST");
+    }
+
+    @Test
+    void listParticipants() throws IOException {
+        var dto = new ParticipantDto("test-did", ParticipantDto.OnboardingStatus.ONBOARDED);
+        mockServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(List.of(dto))));
+
+        var result = apiClient.listParticipants();
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(r -> assertThat(r.getContent()).usingRecursiveFieldByFieldElementComparator().containsOnly(dto));
+    }
+
+    @Test
+    void listParticipants_paged() throws IOException, InterruptedException {
+        var dto = new ParticipantDto("did:web:1", ParticipantDto.OnboardingStatus.ONBOARDED);
+        mockServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(List.of(dto))).setHeader("X-Next-Cursor", "did:web:1"));
+
+        var result = apiClient.listParticipants(1, "did:web:0");
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> {
+            assertThat(r.getContent().getParticipants()).usingRecursiveFieldByFieldElementComparator().containsExactly(dto);
+            assertThat(r.getContent().getNextCursor()).isEqualTo("did:web:1");
+        });
+        var rs = mockServer.takeRequest();
+        assertThat(rs.getRequestUrl().queryParameter("limit")).isEqualTo("1");
+        assertThat(rs.getRequestUrl().queryParameter("after")).isEqualTo("did:web:0");
+    }
+
+    @Test
+    void getParticipant() throws IOException {
+        var dto = new ParticipantDto("test-did", ParticipantDto.OnboardingStatus.ONBOARDED);
+        mockServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(dto)));
+
+        var result = apiClient.getParticipant();
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS)
+                .satisfies(r -> assertThat(r.getContent()).usingRecursiveComparison().isEqualTo(dto));
+    }
+
+    @Test
+    void getParticipant_notFound() {
+        mockServer.enqueue(new MockResponse().setResponseCode(404));
+
+        var result = apiClient.getParticipant();
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> {
+            assertThat(r.failed()).isTrue();
+            assertThat(r.reason()).isEqualTo(404);
+        });
+    }
+
+    @Test
+    void getParticipant_unreachable() throws IOException {
+        mockServer.shutdown();
+
+        var result = apiClient.getParticipant();
+
+        assertThat(result).failsWithin(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void cancel_cancelsRequest() {
+        mockServer.enqueue(new MockResponse().setHeadersDelay(1, TimeUnit.MINUTES));
+
+        var result = apiClient.getParticipant();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(httpClient.dispatcher().runningCallsCount()).isEqualTo(1));
+
+        result.cancel(true);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(httpClient.dispatcher().runningCallsCount()).isZero());
+    }
+}
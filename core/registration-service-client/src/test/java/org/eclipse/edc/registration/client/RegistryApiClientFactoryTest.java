@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RegistryApiClientFactoryTest {
+
+    private final Function<TokenParameters, Result<TokenRepresentation>> credentialsProvider =
+            parameters -> Result.success(TokenRepresentation.Builder.newInstance().token("token").build());
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() {
+        mockServer = new MockWebServer();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void createHttpClient() {
+        var httpClient = RegistryApiClientFactory.createHttpClient(2, Duration.ofSeconds(10), 32, 8);
+
+        assertThat(httpClient.dispatcher().getMaxRequests()).isEqualTo(32);
+        assertThat(httpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(8);
+        assertThat(httpClient.protocols()).containsExactly(Protocol.HTTP_2, Protocol.HTTP_1_1);
+    }
+
+    @Test
+    void createApiClient_sharesConnectionsOfHttpClient() throws InterruptedException {
+        var httpClient = RegistryApiClientFactory.createHttpClient(2, Duration.ofSeconds(10), 32, 8);
+        var url = mockServer.url("/api/v1").toString();
+        var first = RegistryApiClientFactory.createApiClient(httpClient, url, credentialsProvider, mock(Monitor.class), new ObjectMapper());
+        var second = RegistryApiClientFactory.createApiClient(httpClient, url, credentialsProvider, mock(Monitor.class), new ObjectMapper());
+        mockServer.enqueue(new MockResponse());
+        mockServer.enqueue(new MockResponse());
+
+        assertThat(first.addParticipant().succeeded()).isTrue();
+        assertThat(second.addParticipant().succeeded()).isTrue();
+
+        // the second request is the second one sent over the connection opened by the first client
+        assertThat(mockServer.takeRequest().getSequenceNumber()).isEqualTo(0);
+        assertThat(mockServer.takeRequest().getSequenceNumber()).isEqualTo(1);
+        assertThat(httpClient.connectionPool().connectionCount()).isEqualTo(1);
+    }
+}
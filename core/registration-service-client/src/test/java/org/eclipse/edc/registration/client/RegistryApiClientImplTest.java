@@ -22,14 +22,18 @@ import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.eclipse.edc.connector.core.base.EdcHttpClientImpl;
 import org.eclipse.edc.registration.client.model.ParticipantDto;
+import org.eclipse.edc.registration.client.model.SyncWatermark;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 
 class RegistryApiClientImplTest {
@@ -75,6 +79,167 @@ class RegistryApiClientImplTest {
         assertThat(rs.getMethod()).isEqualTo("GET");
     }
 
+    @Test
+    void forEachParticipant() throws InterruptedException, IOException {
+        var dto1 = new ParticipantDto("did:web:1", ParticipantDto.OnboardingStatus.ONBOARDED);
+        var dto2 = new ParticipantDto("did:web:2", ParticipantDto.OnboardingStatus.DENIED);
+        mockServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(List.of(dto1, dto2))));
+        var participants = new ArrayList<ParticipantDto>();
+
+        var result = apiClient.forEachParticipant(participants::add);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(participants).usingRecursiveFieldByFieldElementComparator().containsExactly(dto1, dto2);
+        var rs = mockServer.takeRequest();
+        assertThat(rs.getPath()).isEqualTo("/api/v1/registry/participants");
+        assertThat(rs.getMethod()).isEqualTo("GET");
+    }
+
+    @Test
+    void forEachParticipant_failure() {
+        mockServer.enqueue(new MockResponse().setResponseCode(400));
+        var participants = new ArrayList<ParticipantDto>();
+
+        var result = apiClient.forEachParticipant(participants::add);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(400);
+        assertThat(participants).isEmpty();
+    }
+
+    @Test
+    void forEachParticipant_truncatedBody() {
+        mockServer.enqueue(new MockResponse().setBody("[{\"did\":\"did:web:1\",\"status\":\"ONBOARDED\"},"));
+
+        assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> apiClient.forEachParticipant(p -> { }));
+    }
+
+    @Test
+    void getParticipantStats() throws InterruptedException {
+        mockServer.enqueue(new MockResponse().setBody("{\"total\":5,\"byStatus\":{\"ONBOARDING_IN_PROGRESS\":2,\"ONBOARDED\":3,\"DENIED\":0}}"));
+
+        var result = apiClient.getParticipantStats();
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getTotal()).isEqualTo(5);
+        assertThat(result.getContent().count(ParticipantDto.OnboardingStatus.ONBOARDED)).isEqualTo(3);
+        assertThat(result.getContent().count(ParticipantDto.OnboardingStatus.DENIED)).isZero();
+        var rs = mockServer.takeRequest();
+        assertThat(rs.getPath()).isEqualTo("/api/v1/registry/participants/stats");
+        assertThat(rs.getMethod()).isEqualTo("GET");
+    }
+
+    @Test
+    void listParticipants_paged() throws InterruptedException, IOException {
+        var dto = new ParticipantDto("did:web:1", ParticipantDto.OnboardingStatus.ONBOARDED);
+        mockServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(List.of(dto))).setHeader("X-Next-Cursor", "did:web:1"));
+
+        var result = apiClient.listParticipants(1, "did:web:0");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getParticipants()).usingRecursiveFieldByFieldElementComparator().containsExactly(dto);
+        assertThat(result.getContent().getNextCursor()).isEqualTo("did:web:1");
+        var rs = mockServer.takeRequest();
+        assertThat(rs.getRequestUrl().queryParameter("limit")).isEqualTo("1");
+        assertThat(rs.getRequestUrl().queryParameter("after")).isEqualTo("did:web:0");
+    }
+
+    @Test
+    void iterateParticipants() throws InterruptedException, IOException {
+        var dto1 = new ParticipantDto("did:web:1", ParticipantDto.OnboardingStatus.ONBOARDED);
+        var dto2 = new ParticipantDto("did:web:2", ParticipantDto.OnboardingStatus.DENIED);
+        var dto3 = new ParticipantDto("did:web:3", ParticipantDto.OnboardingStatus.ONBOARDED);
+        mockServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(List.of(dto1, dto2))).setHeader("X-Next-Cursor", "did:web:2"));
+        mockServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(List.of(dto3))));
+
+        var iterator = apiClient.iterateParticipants(2);
+
+        assertThat(iterator).toIterable().extracting(ParticipantDto::getDid).containsExactly("did:web:1", "did:web:2", "did:web:3");
+        assertThat(mockServer.takeRequest().getRequestUrl().queryParameter("after")).isNull();
+        assertThat(mockServer.takeRequest().getRequestUrl().queryParameter("after")).isEqualTo("did:web:2");
+        assertThat(mockServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void iterateParticipants_failure() {
+        mockServer.enqueue(new MockResponse().setResponseCode(400));
+
+        var iterator = apiClient.iterateParticipants(2);
+
+        assertThatExceptionOfType(EdcException.class).isThrownBy(iterator::hasNext);
+    }
+
+    @Test
+    void syncParticipants() throws InterruptedException, IOException {
+        var dto1 = new ParticipantDto("did:web:1", ParticipantDto.OnboardingStatus.ONBOARDED);
+        var dto2 = new ParticipantDto("did:web:2", ParticipantDto.OnboardingStatus.DENIED);
+        var dto3 = new ParticipantDto("did:web:3", ParticipantDto.OnboardingStatus.ONBOARDED);
+        mockServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(List.of(dto1, dto2)))
+                .setHeader("X-Next-Updated-Since", "2000").setHeader("X-Next-Cursor", "did:web:2"));
+        mockServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(List.of(dto3)))
+                .setHeader("X-Next-Updated-Since", "3000").setHeader("X-Next-Cursor", "did:web:3"));
+        var participants = new ArrayList<ParticipantDto>();
+
+        var result = apiClient.syncParticipants(new SyncWatermark(1000, "did:web:0"), 2, participants::add);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent()).isEqualTo(new SyncWatermark(3000, "did:web:3"));
+        assertThat(participants).extracting(ParticipantDto::getDid).containsExactly("did:web:1", "did:web:2", "did:web:3");
+        var first = mockServer.takeRequest().getRequestUrl();
+        assertThat(first.queryParameter("updatedSince")).isEqualTo("1000");
+        assertThat(first.queryParameter("after")).isEqualTo("did:web:0");
+        assertThat(first.queryParameter("limit")).isEqualTo("2");
+        var second = mockServer.takeRequest().getRequestUrl();
+        assertThat(second.queryParameter("updatedSince")).isEqualTo("2000");
+        assertThat(second.queryParameter("after")).isEqualTo("did:web:2");
+        assertThat(mockServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void syncParticipants_noChanges() throws InterruptedException {
+        mockServer.enqueue(new MockResponse().setBody("[]"));
+
+        var result = apiClient.syncParticipants(SyncWatermark.initial(), 2, p -> { });
+
+        assertThat(result.getContent()).isEqualTo(SyncWatermark.initial());
+        var request = mockServer.takeRequest().getRequestUrl();
+        assertThat(request.queryParameter("updatedSince")).isEqualTo("0");
+        assertThat(request.queryParameter("after")).isNull();
+    }
+
+    @Test
+    void syncParticipants_failure() {
+        mockServer.enqueue(new MockResponse().setResponseCode(400));
+
+        var result = apiClient.syncParticipants(SyncWatermark.initial(), 2, p -> { });
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(400);
+    }
+
+    @Test
+    void syncParticipants_fullPageWithoutNextPosition_fails() throws JsonProcessingException {
+        var dto1 = new ParticipantDto("did:web:1", ParticipantDto.OnboardingStatus.ONBOARDED);
+        var dto2 = new ParticipantDto("did:web:2", ParticipantDto.OnboardingStatus.DENIED);
+        mockServer.enqueue(new MockResponse().setBody(objectMapper.writeValueAsString(List.of(dto1, dto2))));
+        var participants = new ArrayList<ParticipantDto>();
+
+        var result = apiClient.syncParticipants(SyncWatermark.initial(), 2, participants::add);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(participants).isEmpty();
+        assertThat(mockServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void syncParticipants_emptyBody_fails() {
+        mockServer.enqueue(new MockResponse());
+
+        var result = apiClient.syncParticipants(SyncWatermark.initial(), 2, p -> { });
+
+        assertThat(result.failed()).isTrue();
+    }
+
     @Test
     void getParticipant() throws InterruptedException, JsonProcessingException {
         var dto = new ParticipantDto("test-did", ParticipantDto.OnboardingStatus.ONBOARDED);
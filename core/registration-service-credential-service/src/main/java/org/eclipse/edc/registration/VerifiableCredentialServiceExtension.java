@@ -15,7 +15,6 @@
 package org.eclipse.edc.registration;
 
 import org.eclipse.edc.iam.did.spi.key.PrivateKeyWrapper;
-import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.identityhub.client.IdentityHubClientImpl;
 import org.eclipse.edc.identityhub.credentials.jwt.JwtCredentialEnvelopeTransformer;
 import org.eclipse.edc.identityhub.credentials.jwt.JwtCredentialFactory;
@@ -23,6 +22,7 @@ import org.eclipse.edc.identityhub.spi.credentials.transformer.CredentialEnvelop
 import org.eclipse.edc.registration.credential.DefaultOnboardedParticipantCredentialProvider;
 import org.eclipse.edc.registration.service.VerifiableCredentialServiceImpl;
 import org.eclipse.edc.registration.spi.credential.OnboardedParticipantCredentialProvider;
+import org.eclipse.edc.registration.spi.did.CachingDidResolverRegistry;
 import org.eclipse.edc.registration.spi.service.VerifiableCredentialService;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -52,7 +52,7 @@ public class VerifiableCredentialServiceExtension implements ServiceExtension {
     private EdcHttpClient httpClient;
 
     @Inject
-    private DidResolverRegistry didResolverRegistry;
+    private CachingDidResolverRegistry didResolverRegistry;
 
     @Inject
     private PrivateKeyResolver privateKeyResolver;
@@ -15,8 +15,8 @@
 package org.eclipse.edc.registration;
 
 import org.eclipse.edc.iam.did.spi.credentials.CredentialsVerifier;
-import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.registration.spi.did.CachingDidResolverRegistry;
 import org.eclipse.edc.registration.spi.registration.DataspaceRegistrationPolicy;
 import org.eclipse.edc.registration.spi.verifier.OnboardingPolicyVerifier;
 import org.eclipse.edc.registration.verifier.OnboardingPolicyVerifierImpl;
@@ -35,7 +35,7 @@ public class OnboardingPolicyVerifierExtension implements ServiceExtension {
     private Monitor monitor;
 
     @Inject
-    private DidResolverRegistry didResolverRegistry;
+    private CachingDidResolverRegistry didResolverRegistry;
 
     @Inject
     private CredentialsVerifier credentialsVerifier;
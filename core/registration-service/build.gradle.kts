@@ -13,6 +13,7 @@ dependencies {
     implementation(libs.ih.ext.credentials.jwt)
 
     implementation(libs.opentelemetry.instrumentation.annotations)
+    implementation(libs.micrometer.core)
 
     testImplementation(testFixtures(project(":spi:registration-service-spi")))
     testImplementation(testFixtures(project(":spi:registration-service-store-spi")))
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.registration.did.CachingDidResolverRegistryImpl;
+import org.eclipse.edc.registration.spi.did.CachingDidResolverRegistry;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Provides the {@link CachingDidResolverRegistry} shared by the components resolving DIDs of participants. It decorates
+ * the {@link DidResolverRegistry} of the identity DID core extension, whose resolvers it delegates to, and is injected
+ * under its own type, so that it never competes with the services provided by that extension.
+ */
+@Extension(DidResolutionCacheExtension.NAME)
+public class DidResolutionCacheExtension implements ServiceExtension {
+
+    public static final String NAME = "DID Resolution Cache";
+
+    @Setting(value = "Duration in milliseconds a resolved DID document is cached, 0 disables caching", type = "long")
+    private static final String TTL_SETTING = "edc.registration.did.cache.ttl";
+
+    @Setting(value = "Duration in milliseconds a failed DID resolution is cached, 0 disables caching of failures", type = "long")
+    private static final String NEGATIVE_TTL_SETTING = "edc.registration.did.cache.negative-ttl";
+
+    @Setting(value = "Maximum number of DID resolutions cached, the least recently used one is evicted beyond that", type = "int")
+    private static final String MAX_SIZE_SETTING = "edc.registration.did.cache.max-size";
+
+    @Inject
+    private DidResolverRegistry didResolverRegistry;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private CachingDidResolverRegistryImpl cachingDidResolverRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var ttl = Duration.ofMillis(context.getSetting(TTL_SETTING, CachingDidResolverRegistryImpl.DEFAULT_TTL.toMillis()));
+        var negativeTtl = Duration.ofMillis(context.getSetting(NEGATIVE_TTL_SETTING, CachingDidResolverRegistryImpl.DEFAULT_NEGATIVE_TTL.toMillis()));
+        var maxSize = context.getSetting(MAX_SIZE_SETTING, CachingDidResolverRegistryImpl.DEFAULT_MAX_SIZE);
+        cachingDidResolverRegistry = new CachingDidResolverRegistryImpl(didResolverRegistry, ttl, negativeTtl, maxSize, Clock.systemUTC());
+        cachingDidResolverRegistry.bindTo(Objects.requireNonNullElse(meterRegistry, Metrics.globalRegistry));
+    }
+
+    @Provider
+    public CachingDidResolverRegistry cachingDidResolverRegistry() {
+        return cachingDidResolverRegistry;
+    }
+}
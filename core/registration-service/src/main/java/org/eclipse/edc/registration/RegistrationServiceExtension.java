@@ -14,16 +14,23 @@
 
 package org.eclipse.edc.registration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.eclipse.edc.registration.manager.AdaptiveWaitStrategy;
 import org.eclipse.edc.registration.manager.ParticipantManager;
 import org.eclipse.edc.registration.service.RegistrationServiceImpl;
 import org.eclipse.edc.registration.spi.registration.RegistrationService;
 import org.eclipse.edc.registration.spi.service.VerifiableCredentialService;
 import org.eclipse.edc.registration.spi.verifier.OnboardingPolicyVerifier;
+import org.eclipse.edc.registration.store.CachingParticipantStore;
 import org.eclipse.edc.registration.store.InMemoryParticipantStore;
+import org.eclipse.edc.registration.store.ParticipantLog;
 import org.eclipse.edc.registration.store.spi.ParticipantStore;
+import org.eclipse.edc.registration.store.spi.ParticipantStoreNotifier;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
@@ -32,11 +39,62 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZED;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZING;
+
 @Extension(RegistrationServiceExtension.NAME)
 public class RegistrationServiceExtension implements ServiceExtension {
 
     public static final String NAME = "Registration Service";
 
+    @Setting(value = "Maximum number of participants in a given state processed per iteration of the state machine", type = "int")
+    private static final String BATCH_SIZE_SETTING = "edc.registration.state-machine.batch-size";
+
+    @Setting(value = "Number of workers processing participants in state AUTHORIZING concurrently, 1 processes them sequentially", type = "int")
+    private static final String AUTHORIZING_WORKERS_SETTING = "edc.registration.state-machine.workers.authorizing";
+
+    @Setting(value = "Number of workers processing participants in state AUTHORIZED concurrently, 1 processes them sequentially", type = "int")
+    private static final String AUTHORIZED_WORKERS_SETTING = "edc.registration.state-machine.workers.authorized";
+
+    @Setting(value = "Duration in milliseconds after which a participant claimed by a runtime can be claimed by another one, must exceed the longest processing of a batch of participants", type = "long")
+    private static final String LEASE_DURATION_SETTING = "edc.registration.state-machine.lease.duration";
+
+    @Setting(value = "Minimum duration in milliseconds the state machine waits when there is no participant to process", type = "long")
+    private static final String WAIT_MIN_SETTING = "edc.registration.state-machine.wait.min";
+
+    @Setting(value = "Maximum duration in milliseconds the state machine waits when there is no participant to process", type = "long")
+    private static final String WAIT_MAX_SETTING = "edc.registration.state-machine.wait.max";
+
+    @Setting(value = "Factor by which the wait grows after each state machine iteration with no participant to process", type = "double")
+    private static final String WAIT_MULTIPLIER_SETTING = "edc.registration.state-machine.wait.multiplier";
+
+    @Setting(value = "Whether participants looked up by DID are cached", type = "boolean")
+    private static final String PARTICIPANT_CACHE_ENABLED_SETTING = "edc.registration.participant-cache.enabled";
+
+    @Setting(value = "Duration in milliseconds a cached participant is used before checking whether it was updated in the store", type = "long")
+    private static final String PARTICIPANT_CACHE_REVALIDATE_AFTER_SETTING = "edc.registration.participant-cache.revalidate-after";
+
+    @Setting(value = "Duration in milliseconds after which a cached participant is read again from the store", type = "long")
+    private static final String PARTICIPANT_CACHE_EXPIRE_AFTER_SETTING = "edc.registration.participant-cache.expire-after";
+
+    @Setting(value = "Maximum number of participants cached, the least recently used one is evicted beyond that", type = "int")
+    private static final String PARTICIPANT_CACHE_MAX_SIZE_SETTING = "edc.registration.participant-cache.max-size";
+
+    @Setting(value = "Duration in milliseconds a participant update must have been saved for before the change feed lists it, " +
+            "so that updates committed late are not missed. Must exceed the time between updating a participant and committing it", type = "long")
+    private static final String CHANGE_FEED_GRACE_PERIOD_SETTING = "edc.registration.change-feed.grace-period";
+
+    @Setting(value = "Directory where the in-memory participant store logs the participants saved, so that they survive a restart. Not durable if unset")
+    private static final String MEMORY_STORE_DIRECTORY_SETTING = "edc.registration.store.memory.directory";
+
+    @Setting(value = "Size in bytes of the in-memory participant store log beyond which it is compacted into a snapshot", type = "long")
+    private static final String MEMORY_STORE_COMPACTION_THRESHOLD_SETTING = "edc.registration.store.memory.compaction-threshold";
+
     @Inject
     private Monitor monitor;
 
@@ -58,7 +116,15 @@ public class RegistrationServiceExtension implements ServiceExtension {
     @Inject
     private TransactionContext transactionContext;
 
+    @Inject(required = false)
+    private ParticipantStoreNotifier participantStoreNotifier;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     private ParticipantManager participantManager;
+    private ParticipantStore cachingParticipantStore;
+    private InMemoryParticipantStore durableParticipantStore;
 
     @Override
     public String name() {
@@ -67,7 +133,46 @@ public class RegistrationServiceExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        participantManager = new ParticipantManager(monitor, participantStore, participantVerifier, executorInstrumentation, vcService, telemetry);
+        cachingParticipantStore = participantCache(context);
+        participantManager = ParticipantManager.Builder.newInstance()
+                // saving participants through the cache evicts them right away
+                .participantStore(cachingParticipantStore)
+                .participantVerifier(participantVerifier)
+                .vcService(vcService)
+                .monitor(monitor)
+                .executorInstrumentation(executorInstrumentation)
+                .telemetry(telemetry)
+                .meterRegistry(Objects.requireNonNullElse(meterRegistry, Metrics.globalRegistry))
+                .batchSize(context.getSetting(BATCH_SIZE_SETTING, ParticipantManager.DEFAULT_BATCH_SIZE))
+                .waitStrategy(waitStrategy(context))
+                .workers(AUTHORIZING, context.getSetting(AUTHORIZING_WORKERS_SETTING, 1))
+                .workers(AUTHORIZED, context.getSetting(AUTHORIZED_WORKERS_SETTING, 1))
+                .leaseHolder(context.getRuntimeId())
+                .leaseDuration(Duration.ofMillis(context.getSetting(LEASE_DURATION_SETTING, ParticipantManager.DEFAULT_LEASE_DURATION.toMillis())))
+                .build();
+
+        // participants added through other runtimes sharing the store
+        if (participantStoreNotifier != null) {
+            participantStoreNotifier.subscribe(participantManager::wakeUp);
+        }
+    }
+
+    private ParticipantStore participantCache(ServiceExtensionContext context) {
+        if (!context.getSetting(PARTICIPANT_CACHE_ENABLED_SETTING, true)) {
+            return participantStore;
+        }
+        return new CachingParticipantStore(participantStore,
+                Duration.ofMillis(context.getSetting(PARTICIPANT_CACHE_REVALIDATE_AFTER_SETTING, CachingParticipantStore.DEFAULT_REVALIDATE_AFTER.toMillis())),
+                Duration.ofMillis(context.getSetting(PARTICIPANT_CACHE_EXPIRE_AFTER_SETTING, CachingParticipantStore.DEFAULT_EXPIRE_AFTER.toMillis())),
+                context.getSetting(PARTICIPANT_CACHE_MAX_SIZE_SETTING, CachingParticipantStore.DEFAULT_MAX_SIZE),
+                Clock.systemUTC());
+    }
+
+    private AdaptiveWaitStrategy waitStrategy(ServiceExtensionContext context) {
+        var min = context.getSetting(WAIT_MIN_SETTING, AdaptiveWaitStrategy.DEFAULT_MIN_MILLIS);
+        var max = context.getSetting(WAIT_MAX_SETTING, AdaptiveWaitStrategy.DEFAULT_MAX_MILLIS);
+        var multiplier = Double.parseDouble(context.getSetting(WAIT_MULTIPLIER_SETTING, String.valueOf(AdaptiveWaitStrategy.DEFAULT_MULTIPLIER)));
+        return new AdaptiveWaitStrategy(min, max, multiplier);
     }
 
     @Override
@@ -78,16 +183,28 @@ public class RegistrationServiceExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         participantManager.stop();
+        if (durableParticipantStore != null) {
+            durableParticipantStore.close();
+        }
     }
 
     @Provider
-    public RegistrationService registrationService() {
-        return new RegistrationServiceImpl(monitor, participantStore, telemetry, transactionContext);
+    public RegistrationService registrationService(ServiceExtensionContext context) {
+        var changeFeedGracePeriod = Duration.ofMillis(context.getSetting(CHANGE_FEED_GRACE_PERIOD_SETTING, RegistrationServiceImpl.DEFAULT_CHANGE_FEED_GRACE_PERIOD.toMillis()));
+        return new RegistrationServiceImpl(monitor, cachingParticipantStore, telemetry, transactionContext, participant -> participantManager.wakeUp(),
+                Clock.systemUTC(), changeFeedGracePeriod);
     }
 
     @Provider(isDefault = true)
-    public ParticipantStore participantStore() {
-        return new InMemoryParticipantStore();
+    public ParticipantStore participantStore(ServiceExtensionContext context) {
+        var directory = context.getSetting(MEMORY_STORE_DIRECTORY_SETTING, null);
+        if (directory == null) {
+            return new InMemoryParticipantStore();
+        }
+        var log = new ParticipantLog(Path.of(directory), context.getTypeManager().getMapper(),
+                context.getSetting(MEMORY_STORE_COMPACTION_THRESHOLD_SETTING, ParticipantLog.DEFAULT_COMPACTION_THRESHOLD), context.getMonitor());
+        durableParticipantStore = new InMemoryParticipantStore(Clock.systemUTC(), log);
+        return durableParticipantStore;
     }
 
     @Provider(isDefault = true)
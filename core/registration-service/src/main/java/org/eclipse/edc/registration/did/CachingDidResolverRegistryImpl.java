@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.did;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.registration.spi.did.CachingDidResolverRegistry;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * {@link CachingDidResolverRegistry} decorating the registry holding the DID resolvers.
+ * <p>
+ * Successful resolutions are kept for {@code ttl}, failed ones for {@code negativeTtl}. Once the cache holds
+ * {@code maxSize} entries, the least recently used one is evicted. Concurrent resolutions of a DID that is not cached
+ * share a single resolution, the callers that wait for it being counted as hits. Bound to a {@link MeterRegistry}, the
+ * hits and misses are published as the {@code registration.did.cache.requests} counter.
+ */
+public class CachingDidResolverRegistryImpl implements CachingDidResolverRegistry, MeterBinder {
+
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(30);
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final DidResolverRegistry delegate;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+    // resolutions in progress, guarded by the lock on entries
+    private final Map<String, CompletableFuture<Result<DidDocument>>> resolutions = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CachingDidResolverRegistryImpl(DidResolverRegistry delegate) {
+        this(delegate, DEFAULT_TTL, DEFAULT_NEGATIVE_TTL, DEFAULT_MAX_SIZE, Clock.systemUTC());
+    }
+
+    public CachingDidResolverRegistryImpl(DidResolverRegistry delegate, Duration ttl, Duration negativeTtl, int maxSize, Clock clock) {
+        if (ttl.isNegative() || negativeTtl.isNegative()) {
+            throw new IllegalArgumentException(format("Invalid DID cache TTL: %s, negative TTL: %s", ttl, negativeTtl));
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(format("Invalid DID cache size %s, must be positive", maxSize));
+        }
+        this.delegate = delegate;
+        this.ttlMillis = ttl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.clock = clock;
+        // access-ordered, so that the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public void register(DidResolver resolver) {
+        delegate.register(resolver);
+        synchronized (entries) {
+            entries.clear();
+            resolutions.clear();
+        }
+    }
+
+    @Override
+    public Result<DidDocument> resolve(String didKey) {
+        var now = clock.millis();
+        var resolution = new CompletableFuture<Result<DidDocument>>();
+        CompletableFuture<Result<DidDocument>> pending;
+        synchronized (entries) {
+            var entry = entries.get(didKey);
+            if (entry != null && entry.expiration() > now) {
+                hits.incrementAndGet();
+                return entry.result();
+            }
+            pending = resolutions.putIfAbsent(didKey, resolution);
+        }
+        if (pending != null) {
+            hits.incrementAndGet();
+            return pending.join();
+        }
+
+        // resolve outside the lock, a DID resolution can involve a network call
+        misses.incrementAndGet();
+        Result<DidDocument> result;
+        try {
+            result = delegate.resolve(didKey);
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                resolutions.remove(didKey, resolution);
+            }
+            resolution.completeExceptionally(e);
+            throw e;
+        }
+        var ttl = result.succeeded() ? ttlMillis : negativeTtlMillis;
+        synchronized (entries) {
+            // not cached if the DID was invalidated meanwhile, the resolution could predate the change
+            if (resolutions.remove(didKey, resolution)) {
+                if (ttl > 0) {
+                    entries.put(didKey, new Entry(result, now + ttl));
+                } else {
+                    entries.remove(didKey);
+                }
+            }
+        }
+        resolution.complete(result);
+        return result;
+    }
+
+    @Override
+    public void invalidate(String did) {
+        synchronized (entries) {
+            entries.remove(did);
+            // the next resolution does not wait for the one in progress, which may predate the change
+            resolutions.remove(did);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("registration.did.cache.requests", this, CachingDidResolverRegistryImpl::hitCount)
+                .description("Number of DID resolutions served from the cache")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("registration.did.cache.requests", this, CachingDidResolverRegistryImpl::missCount)
+                .description("Number of DID resolutions not found in the cache")
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    @Override
+    public long hitCount() {
+        return hits.get();
+    }
+
+    @Override
+    public long missCount() {
+        return misses.get();
+    }
+
+    private record Entry(Result<DidDocument> result, long expiration) {
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.manager;
+
+import org.eclipse.edc.spi.retry.WaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.String.format;
+
+/**
+ * Wait strategy backing off exponentially while the state machine is idle.
+ * <p>
+ * The state machine only waits after an iteration that processed nothing. The first wait after some activity lasts
+ * {@code minMillis}, and each subsequent idle wait is {@code multiplier} times longer, up to {@code maxMillis}.
+ * {@link #activity()} resets the wait to its minimum.
+ * <p>
+ * The wait itself happens in {@link #waitForMillis()}, so that {@link #wakeUp()} can interrupt it as soon as there is
+ * something to process, e.g. a new participant. Once {@link #close() closed}, the strategy only computes the delay and
+ * leaves the wait to the caller, until it is {@link #open() opened} again.
+ */
+public class AdaptiveWaitStrategy implements WaitStrategy {
+
+    public static final long DEFAULT_MIN_MILLIS = 100;
+    public static final long DEFAULT_MAX_MILLIS = 10_000;
+    public static final double DEFAULT_MULTIPLIER = 2.0;
+
+    private final long minMillis;
+    private final long maxMillis;
+    private final double multiplier;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wokenUp = lock.newCondition();
+    // guarded by lock, as are the fields below
+    private long nextWaitMillis;
+    private boolean pendingWakeUp;
+    private boolean closed;
+
+    public AdaptiveWaitStrategy() {
+        this(DEFAULT_MIN_MILLIS, DEFAULT_MAX_MILLIS, DEFAULT_MULTIPLIER);
+    }
+
+    public AdaptiveWaitStrategy(long minMillis, long maxMillis, double multiplier) {
+        if (minMillis <= 0 || maxMillis < minMillis) {
+            throw new IllegalArgumentException(format("Invalid wait bounds: min %s ms, max %s ms", minMillis, maxMillis));
+        }
+        if (multiplier < 1) {
+            throw new IllegalArgumentException(format("Invalid wait multiplier %s, must be at least 1", multiplier));
+        }
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+        this.multiplier = multiplier;
+        this.nextWaitMillis = minMillis;
+    }
+
+    /**
+     * Waits until the backoff delay elapsed or {@link #wakeUp()} is called.
+     *
+     * @return the remaining delay the caller should wait, 0 unless the strategy is closed.
+     */
+    @Override
+    public long waitForMillis() {
+        lock.lock();
+        try {
+            // read and grown at once, so that an activity signaled concurrently is not overwritten
+            var waitMillis = nextWaitMillis;
+            nextWaitMillis = Math.min(maxMillis, (long) Math.ceil(waitMillis * multiplier));
+            if (closed) {
+                return waitMillis;
+            }
+            var remainingNanos = TimeUnit.MILLISECONDS.toNanos(waitMillis);
+            while (!pendingWakeUp && !closed && remainingNanos > 0) {
+                remainingNanos = wokenUp.awaitNanos(remainingNanos);
+            }
+            pendingWakeUp = false;
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Signals that there is work to do, so that the next wait is as short as possible.
+     */
+    public void activity() {
+        lock.lock();
+        try {
+            nextWaitMillis = minMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ends the current wait right away, or skips the next one if the state machine is not waiting. The wait is also
+     * reset to its minimum, as for {@link #activity()}.
+     */
+    public void wakeUp() {
+        lock.lock();
+        try {
+            nextWaitMillis = minMillis;
+            pendingWakeUp = true;
+            wokenUp.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits again in {@link #waitForMillis()} after the strategy was {@link #close() closed}, starting from the minimum
+     * wait, so that a state machine can be restarted with it.
+     */
+    public void open() {
+        lock.lock();
+        try {
+            closed = false;
+            pendingWakeUp = false;
+            nextWaitMillis = minMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ends the current wait and stops waiting in {@link #waitForMillis()}, so that the state machine can be stopped
+     * without delay.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            wokenUp.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.manager;
+
+import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.statemachine.Processor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * {@link Processor} transitioning a batch of participants, then saving all the transitioned ones at once.
+ * <p>
+ * A participant whose processing fails is left out of the batch, and will be processed again once its lease expires, as
+ * are all the participants of a batch that could not be saved. Processing must therefore be free of side effects.
+ */
+class BatchProcessor implements Processor {
+
+    private final Supplier<Collection<Participant>> participants;
+    private final Function<Participant, Boolean> function;
+    private final Function<Collection<Participant>, StoreResult<Void>> saveAll;
+    private final Monitor monitor;
+
+    BatchProcessor(Supplier<Collection<Participant>> participants, Function<Participant, Boolean> function, Function<Collection<Participant>, StoreResult<Void>> saveAll, Monitor monitor) {
+        this.participants = participants;
+        this.function = function;
+        this.saveAll = saveAll;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Long process() {
+        var transitioned = new ArrayList<Participant>();
+        for (var participant : participants.get()) {
+            try {
+                if (function.apply(participant)) {
+                    transitioned.add(participant);
+                }
+            } catch (Exception e) {
+                monitor.severe(format("Failed to process participant %s", participant.getDid()), e);
+            }
+        }
+
+        if (transitioned.isEmpty()) {
+            return 0L;
+        }
+        var saved = saveAll.apply(transitioned);
+        if (saved.failed()) {
+            monitor.warning(format("Failed to save %s participants, they will be processed again once their lease expires: %s", transitioned.size(), saved.getFailureDetail()));
+            return 0L;
+        }
+        return (long) transitioned.size();
+    }
+}
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.registration.manager;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.registration.spi.model.Participant;
 import org.eclipse.edc.registration.spi.model.ParticipantStatus;
@@ -21,51 +23,89 @@ import org.eclipse.edc.registration.spi.service.VerifiableCredentialService;
 import org.eclipse.edc.registration.spi.verifier.OnboardingPolicyVerifier;
 import org.eclipse.edc.registration.store.spi.ParticipantStore;
 import org.eclipse.edc.spi.monitor.Monitor;
-import org.eclipse.edc.spi.retry.WaitStrategy;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.statemachine.Processor;
 import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 
+import static java.lang.String.format;
 import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZED;
 import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZING;
 import static org.eclipse.edc.registration.spi.model.ParticipantStatus.ONBOARDING_INITIATED;
 
 /**
  * Manager for participant registration state machine.
+ * <p>
+ * Participants are claimed from the {@link ParticipantStore} with a lease held by this runtime, so that several runtimes
+ * can share the same store without processing the same participant twice.
+ * <p>
+ * By default, participants are processed one after the other on the state machine thread. States whose processing is
+ * bound by network calls can be given a pool of workers instead, in which case the state machine only claims as many
+ * participants as there are idle workers.
+ * <p>
+ * While there is nothing to process, the state machine backs off up to a maximum wait. {@link #wakeUp()} ends the wait,
+ * so that a new participant is processed right away.
+ * <p>
+ * The number of participants in each state, the transitions and the processing times are recorded as metrics in the
+ * given {@link MeterRegistry}, see {@link ParticipantMetrics}.
  */
 public class ParticipantManager {
 
-    private final ParticipantStore participantStore;
-    private final OnboardingPolicyVerifier participantVerifier;
-    private final StateMachineManager stateMachineManager;
-    private final VerifiableCredentialService vcService;
-    private final Telemetry telemetry;
+    public static final int DEFAULT_BATCH_SIZE = 20;
+    public static final Duration DEFAULT_LEASE_DURATION = Duration.ofSeconds(60);
+    private static final long WORKER_SHUTDOWN_TIMEOUT_MILLIS = 10_000;
 
-    public ParticipantManager(Monitor monitor, ParticipantStore participantStore, OnboardingPolicyVerifier participantVerifier, ExecutorInstrumentation executorInstrumentation,
-                              VerifiableCredentialService vcService, Telemetry telemetry) {
-        this.participantStore = participantStore;
-        this.participantVerifier = participantVerifier;
-        this.vcService = vcService;
-        this.telemetry = telemetry;
+    private ParticipantStore participantStore;
+    private OnboardingPolicyVerifier participantVerifier;
+    private VerifiableCredentialService vcService;
+    private Monitor monitor;
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private Telemetry telemetry = new Telemetry();
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+    private ParticipantMetrics metrics;
+    private String leaseHolder;
+    private Duration leaseDuration = DEFAULT_LEASE_DURATION;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private AdaptiveWaitStrategy waitStrategy = new AdaptiveWaitStrategy();
+    private final Map<ParticipantStatus, Integer> workers = new EnumMap<>(ParticipantStatus.class);
+    private final Map<ParticipantStatus, WorkerPool> workerPools = new EnumMap<>(ParticipantStatus.class);
+    private StateMachineManager stateMachineManager;
 
-        // default wait five seconds
-        WaitStrategy waitStrategy = () -> 5000L;
-
-        // define state machine
-        stateMachineManager = StateMachineManager.Builder.newInstance("registration-service", monitor, executorInstrumentation, waitStrategy)
-                .processor(processParticipantsInState(ONBOARDING_INITIATED, this::processOnboardingInitiated))
-                .processor(processParticipantsInState(AUTHORIZING, this::processAuthorizing))
-                .processor(processParticipantsInState(AUTHORIZED, this::processAuthorized))
-                .build();
+    private ParticipantManager() {
     }
 
     /**
      * Start the participant manager state machine processor thread.
      */
     public void start() {
+        // closed if the manager was stopped before
+        waitStrategy.open();
+        workers.forEach((status, size) -> {
+            if (size > 1) {
+                workerPools.put(status, new WorkerPool("registration-service-" + status.name().toLowerCase(), size, executorInstrumentation, monitor));
+            }
+        });
+
+        // define state machine
+        stateMachineManager = StateMachineManager.Builder.newInstance("registration-service", monitor, executorInstrumentation, waitStrategy)
+                .processor(processParticipantsInState(ONBOARDING_INITIATED, this::processOnboardingInitiated, true))
+                .processor(processParticipantsInState(AUTHORIZING, this::processAuthorizing, false))
+                .processor(processParticipantsInState(AUTHORIZED, this::processAuthorized, false))
+                .build();
+
         stateMachineManager.start();
     }
 
@@ -73,13 +113,25 @@ public class ParticipantManager {
      * Stop the participant manager state machine processor thread.
      */
     public void stop() {
-        stateMachineManager.stop();
+        waitStrategy.close();
+        if (stateMachineManager != null) {
+            stateMachineManager.stop();
+        }
+        workerPools.values().forEach(pool -> pool.shutdown(WORKER_SHUTDOWN_TIMEOUT_MILLIS));
+        workerPools.clear();
+    }
+
+    /**
+     * Signal that participants are waiting to be processed, e.g. because one was just added. The state machine
+     * processes them right away instead of waiting for its next iteration.
+     */
+    public void wakeUp() {
+        waitStrategy.wakeUp();
     }
 
     @WithSpan
     private Boolean processOnboardingInitiated(Participant participant) {
         participant.transitionAuthorizing();
-        participantStore.save(participant);
         return true;
     }
 
@@ -93,7 +145,6 @@ public class ParticipantManager {
         } else {
             participant.transitionDenied();
         }
-        participantStore.save(participant);
         return true;
     }
 
@@ -105,15 +156,188 @@ public class ParticipantManager {
         } else {
             participant.transitionFailed();
         }
-
-        participantStore.save(participant);
         return true;
     }
-    
 
-    private ProcessorImpl<Participant> processParticipantsInState(ParticipantStatus status, Function<Participant, Boolean> function) {
-        return ProcessorImpl.Builder.newInstance(() -> participantStore.listParticipantsWithStatus(status))
-                .process(telemetry.contextPropagationMiddleware(function))
+
+    /**
+     * Processes the participants claimed in the given state with the given function, which transitions them.
+     * Participants processed sequentially in a state whose processing has no side effect can be {@code batched}, i.e.
+     * saved together once the whole batch is processed. All the others are saved individually right after being
+     * processed, so that the outcome of an external call is never lost nor the call repeated because the save of
+     * another participant failed. Transitions are only recorded in the metrics once saved.
+     */
+    private Processor processParticipantsInState(ParticipantStatus status, Function<Participant, Boolean> function, boolean batched) {
+        var tracedFunction = telemetry.contextPropagationMiddleware(metrics.instrument(status, function));
+        var pool = workerPools.get(status);
+        if (pool == null && batched) {
+            return new BatchProcessor(claim(status, () -> batchSize), tracedFunction, this::saveAll, monitor);
+        }
+
+        Function<Participant, Boolean> processAndSave = participant -> {
+            var transitioned = tracedFunction.apply(participant);
+            if (transitioned) {
+                var saved = participantStore.save(participant, leaseHolder);
+                if (saved.succeeded()) {
+                    metrics.transitioned(participant);
+                } else {
+                    monitor.warning(format("Failed to save participant %s: %s", participant.getDid(), saved.getFailureDetail()));
+                }
+            }
+            return transitioned;
+        };
+        if (pool == null) {
+            return ProcessorImpl.Builder.newInstance(claim(status, () -> batchSize))
+                    .process(processAndSave)
+                    .build();
+        }
+
+        // claim only what the idle workers can take right away, the others stay available to other runtimes
+        return ProcessorImpl.Builder.newInstance(claim(status, () -> Math.min(batchSize, pool.available())))
+                .process(participant -> submit(pool, participant, processAndSave))
                 .build();
     }
+
+    private StoreResult<Void> saveAll(Collection<Participant> participants) {
+        var saved = participantStore.saveAll(participants, leaseHolder);
+        if (saved.succeeded()) {
+            participants.forEach(metrics::transitioned);
+        }
+        return saved;
+    }
+
+    private Supplier<Collection<Participant>> claim(ParticipantStatus status, IntSupplier max) {
+        return () -> {
+            var capacity = max.getAsInt();
+            if (capacity <= 0) {
+                return List.of();
+            }
+            var claimed = participantStore.claimParticipantsWithStatus(status, capacity, leaseHolder, leaseDuration);
+            if (!claimed.isEmpty()) {
+                waitStrategy.activity();
+            }
+            return claimed;
+        };
+    }
+
+    private Boolean submit(WorkerPool pool, Participant participant, Function<Participant, Boolean> function) {
+        var accepted = pool.submit(() -> {
+            function.apply(participant);
+            // a worker became idle, let it pick up the next participant right away
+            waitStrategy.wakeUp();
+        });
+        if (!accepted) {
+            monitor.warning("No worker available for participant " + participant.getDid() + ", it will be processed once its lease expires");
+        }
+        return accepted;
+    }
+
+    public static class Builder {
+
+        private final ParticipantManager manager;
+
+        private Builder() {
+            manager = new ParticipantManager();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder participantStore(ParticipantStore participantStore) {
+            manager.participantStore = participantStore;
+            return this;
+        }
+
+        public Builder participantVerifier(OnboardingPolicyVerifier participantVerifier) {
+            manager.participantVerifier = participantVerifier;
+            return this;
+        }
+
+        public Builder vcService(VerifiableCredentialService vcService) {
+            manager.vcService = vcService;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            manager.monitor = monitor;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            manager.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder telemetry(Telemetry telemetry) {
+            manager.telemetry = telemetry;
+            return this;
+        }
+
+        /**
+         * Registry of the state machine metrics, the global registry by default.
+         */
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            manager.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        /**
+         * Identifier of this runtime, used as holder of the leases on the participants it processes.
+         */
+        public Builder leaseHolder(String leaseHolder) {
+            manager.leaseHolder = leaseHolder;
+            return this;
+        }
+
+        /**
+         * Maximum number of participants claimed per state on each iteration of the state machine. As long as an iteration
+         * processes participants, the next one starts immediately, so a large backlog is worked off in consecutive batches.
+         */
+        public Builder batchSize(int batchSize) {
+            manager.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Strategy deciding how long the state machine waits after an iteration that processed no participant.
+         */
+        public Builder waitStrategy(AdaptiveWaitStrategy waitStrategy) {
+            manager.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        /**
+         * Number of workers processing participants in the given state concurrently. With a value of 1 (the default),
+         * participants are processed sequentially on the state machine thread.
+         */
+        public Builder workers(ParticipantStatus status, int workers) {
+            manager.workers.put(status, workers);
+            return this;
+        }
+
+        /**
+         * Duration after which a participant that was claimed but not saved can be claimed again, e.g. because the runtime
+         * holding the lease crashed. Leases are not renewed while participants are processed, and a participant whose lease
+         * expired can no longer be saved by this runtime, so that it is not overwritten once another runtime claimed it.
+         * The duration must therefore exceed the longest processing of a claimed batch: a batch of {@link #batchSize(int)}
+         * participants processed one after the other, or a single participant in a state with {@link #workers(ParticipantStatus, int)}, e.g. the
+         * credential push of an authorized participant, including the timeouts of its calls.
+         */
+        public Builder leaseDuration(Duration leaseDuration) {
+            manager.leaseDuration = leaseDuration;
+            return this;
+        }
+
+        public ParticipantManager build() {
+            Objects.requireNonNull(manager.participantStore, "participantStore");
+            Objects.requireNonNull(manager.participantVerifier, "participantVerifier");
+            Objects.requireNonNull(manager.vcService, "vcService");
+            Objects.requireNonNull(manager.monitor, "monitor");
+            Objects.requireNonNull(manager.leaseHolder, "leaseHolder");
+            // the gauges only hold a weak reference to the metrics, which must therefore live as long as the manager
+            manager.metrics = new ParticipantMetrics(manager.meterRegistry, manager.participantStore, manager.monitor, ParticipantMetrics.DEFAULT_COUNTS_MAX_AGE, Clock.systemUTC());
+            return manager;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.manager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.spi.model.ParticipantStatus;
+import org.eclipse.edc.registration.store.spi.ParticipantStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Metrics of the participant state machine:
+ * <ul>
+ *     <li>{@code registration.participants}: number of participants in each state, counted in the store</li>
+ *     <li>{@code registration.participants.transitions}: number of transitions to each state made and saved by this runtime</li>
+ *     <li>{@code registration.participants.processing}: time to process a participant in each state</li>
+ *     <li>{@code registration.participants.onboarding}: time from the creation of a participant to its onboarding</li>
+ * </ul>
+ * The participants are counted with a single query to the store for all states, whose result is only refreshed once it
+ * is older than {@code countsMaxAge}, however often the gauges are read.
+ */
+class ParticipantMetrics {
+
+    static final Duration DEFAULT_COUNTS_MAX_AGE = Duration.ofSeconds(30);
+
+    private static final String STATE_TAG = "state";
+
+    private final MeterRegistry registry;
+    private final ParticipantStore participantStore;
+    private final Monitor monitor;
+    private final Duration countsMaxAge;
+    private final Clock clock;
+    private final Map<ParticipantStatus, Counter> transitions = new EnumMap<>(ParticipantStatus.class);
+    private final Map<ParticipantStatus, Timer> processing = new EnumMap<>(ParticipantStatus.class);
+    private final Timer onboarding;
+    private Map<ParticipantStatus, Long> counts;
+    private long countedAt;
+
+    ParticipantMetrics(MeterRegistry registry, ParticipantStore participantStore, Monitor monitor, Duration countsMaxAge, Clock clock) {
+        this.registry = registry;
+        this.participantStore = participantStore;
+        this.monitor = monitor;
+        this.countsMaxAge = countsMaxAge;
+        this.clock = clock;
+
+        for (var status : ParticipantStatus.values()) {
+            var state = status.name();
+            Gauge.builder("registration.participants", this, metrics -> metrics.count(status))
+                    .description("Number of participants in the given state")
+                    .tag(STATE_TAG, state)
+                    .register(registry);
+            transitions.put(status, Counter.builder("registration.participants.transitions")
+                    .description("Number of participants transitioned to the given state")
+                    .tag(STATE_TAG, state)
+                    .register(registry));
+            processing.put(status, Timer.builder("registration.participants.processing")
+                    .description("Time to process a participant in the given state")
+                    .tag(STATE_TAG, state)
+                    .register(registry));
+        }
+        onboarding = Timer.builder("registration.participants.onboarding")
+                .description("Time from the creation of a participant to its onboarding")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Wraps the function processing participants in the given state, so that its duration is recorded.
+     */
+    Function<Participant, Boolean> instrument(ParticipantStatus status, Function<Participant, Boolean> function) {
+        var timer = processing.get(status);
+        return participant -> {
+            var sample = Timer.start(registry);
+            try {
+                return function.apply(participant);
+            } finally {
+                sample.stop(timer);
+            }
+        };
+    }
+
+    /**
+     * Records the transition of the given participant to its current state, once it is saved.
+     */
+    void transitioned(Participant participant) {
+        var status = participant.getStatus();
+        transitions.get(status).increment();
+        if (status == ParticipantStatus.ONBOARDED) {
+            onboarding.record(participant.getStateTimestamp() - participant.getCreatedAt(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private double count(ParticipantStatus status) {
+        var current = counts();
+        return current != null ? current.getOrDefault(status, 0L) : Double.NaN;
+    }
+
+    private synchronized Map<ParticipantStatus, Long> counts() {
+        var now = clock.millis();
+        if (counts == null || now - countedAt >= countsMaxAge.toMillis()) {
+            try {
+                counts = participantStore.countByStatus();
+            } catch (Exception e) {
+                // keep the previous counts until the next refresh
+                monitor.warning("Failed to count participants by state", e);
+            }
+            countedAt = now;
+        }
+        return counts;
+    }
+}
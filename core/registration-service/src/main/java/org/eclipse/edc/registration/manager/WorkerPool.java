@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.manager;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-size pool of threads processing participants of a given state.
+ * <p>
+ * The pool never accepts more tasks than it has threads, so callers can use {@link #available()} to claim only as many
+ * participants as can be processed right away, rather than queueing up work whose lease could expire while waiting.
+ */
+class WorkerPool {
+
+    private final String name;
+    private final Monitor monitor;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    WorkerPool(String name, int size, ExecutorInstrumentation executorInstrumentation, Monitor monitor) {
+        this.name = name;
+        this.monitor = monitor;
+        permits = new Semaphore(size);
+
+        var counter = new AtomicInteger();
+        executor = executorInstrumentation.instrument(Executors.newFixedThreadPool(size, runnable -> {
+            var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }), name);
+    }
+
+    /**
+     * Number of tasks that can be submitted without being rejected.
+     */
+    int available() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Runs the task on a worker thread, if one is available.
+     *
+     * @return true if the task was accepted, false if all workers are busy.
+     */
+    boolean submit(Runnable task) {
+        if (!permits.tryAcquire()) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    monitor.severe("Unexpected error in worker pool " + name, e);
+                } finally {
+                    permits.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            return false;
+        }
+    }
+
+    /**
+     * Stops accepting tasks and waits for the running ones to complete.
+     */
+    void shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                monitor.warning("Worker pool " + name + " did not terminate in time, interrupting running tasks");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
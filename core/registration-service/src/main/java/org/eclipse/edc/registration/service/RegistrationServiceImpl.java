@@ -16,31 +16,60 @@ package org.eclipse.edc.registration.service;
 
 
 import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.spi.model.ParticipantStatus;
+import org.eclipse.edc.registration.spi.registration.ParticipantListener;
 import org.eclipse.edc.registration.spi.registration.RegistrationService;
 import org.eclipse.edc.registration.store.spi.ParticipantStore;
+import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.registration.spi.model.ParticipantStatus.ONBOARDING_INITIATED;
 
 public class RegistrationServiceImpl implements RegistrationService {
 
+    /**
+     * Default time a change must have been saved for before it is listed by the change feed.
+     */
+    public static final Duration DEFAULT_CHANGE_FEED_GRACE_PERIOD = Duration.ofSeconds(10);
+
     private final Monitor monitor;
     private final ParticipantStore participantStore;
     private final Telemetry telemetry;
     private final TransactionContext transactionContext;
+    private final ParticipantListener listener;
+    private final Clock clock;
+    private final long changeFeedGracePeriodMillis;
 
     public RegistrationServiceImpl(Monitor monitor, ParticipantStore participantStore, Telemetry telemetry, TransactionContext transactionContext) {
+        this(monitor, participantStore, telemetry, transactionContext, participant -> {
+        });
+    }
+
+    public RegistrationServiceImpl(Monitor monitor, ParticipantStore participantStore, Telemetry telemetry, TransactionContext transactionContext, ParticipantListener listener) {
+        this(monitor, participantStore, telemetry, transactionContext, listener, Clock.systemUTC(), DEFAULT_CHANGE_FEED_GRACE_PERIOD);
+    }
+
+    public RegistrationServiceImpl(Monitor monitor, ParticipantStore participantStore, Telemetry telemetry, TransactionContext transactionContext, ParticipantListener listener,
+                                   Clock clock, Duration changeFeedGracePeriod) {
         this.monitor = monitor;
         this.participantStore = participantStore;
         this.telemetry = telemetry;
         this.transactionContext = transactionContext;
+        this.listener = listener;
+        this.clock = clock;
+        this.changeFeedGracePeriodMillis = changeFeedGracePeriod.toMillis();
     }
 
     @Nullable
@@ -54,7 +83,44 @@ public class RegistrationServiceImpl implements RegistrationService {
         return transactionContext.execute(participantStore::listParticipants);
     }
 
-    public void addParticipant(String did) {
+    public List<Participant> listParticipants(int limit, @Nullable String after) {
+        monitor.debug(format("List %s participants of the dataspace after %s.", limit, after));
+        return transactionContext.execute(() -> participantStore.listParticipants(limit, after));
+    }
+
+    /**
+     * Leaves out the participants updated within the grace period. The update time of a participant is set before it is
+     * saved, so a participant can be committed with an update time earlier than that of participants already listed, and
+     * would be missed by a client resuming the feed after them. Participants are listed by update time, so the ones left
+     * out are always at the end of the page, and are listed once the grace period has elapsed.
+     */
+    public List<Participant> listParticipantsUpdatedSince(long updatedSince, @Nullable String after, int limit) {
+        monitor.debug(format("List %s participants of the dataspace updated since %s after %s.", limit, updatedSince, after));
+        var settledBefore = clock.millis() - changeFeedGracePeriodMillis;
+        return transactionContext.execute(() -> participantStore.listParticipantsUpdatedSince(updatedSince, after, limit)).stream()
+                .takeWhile(participant -> participant.getUpdatedAt() <= settledBefore)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Consumes the participants within the transaction, so that the cursor streaming them from the store, and its
+     * connection, are released once the last participant is consumed, or the consumer fails.
+     */
+    public void forEachParticipant(Consumer<Participant> consumer) {
+        monitor.info("Stream all participants of the dataspace.");
+        transactionContext.execute(() -> {
+            try (var participants = participantStore.streamParticipants()) {
+                participants.forEach(consumer);
+            }
+        });
+    }
+
+    public Map<ParticipantStatus, Long> countParticipantsByStatus() {
+        monitor.debug("Count the participants of the dataspace by state.");
+        return transactionContext.execute(participantStore::countByStatus);
+    }
+
+    public ServiceResult<Void> addParticipant(String did) {
         monitor.info("Adding a participant in the dataspace.");
 
         var participant = Participant.Builder.newInstance()
@@ -64,6 +130,12 @@ public class RegistrationServiceImpl implements RegistrationService {
                 .traceContext(telemetry.getCurrentTraceContext())
                 .build();
 
-        transactionContext.execute(() -> participantStore.save(participant));
+        var result = transactionContext.execute(() -> participantStore.save(participant));
+        if (result.failed()) {
+            monitor.warning(format("Failed to add participant %s: %s", did, result.getFailureDetail()));
+            return ServiceResult.conflict(result.getFailureDetail());
+        }
+        listener.participantAdded(participant);
+        return ServiceResult.success();
     }
 }
@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.store;
+
+import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.spi.model.ParticipantStatus;
+import org.eclipse.edc.registration.store.spi.ParticipantStore;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * {@link ParticipantStore} decorator caching the participants looked up by DID, including the ones not found.
+ * <p>
+ * A cached participant is returned as is for {@code revalidateAfter}. After that, it is only read again if its last
+ * update time in the store changed, which also catches the updates made through other runtimes sharing the store. After
+ * {@code expireAfter}, it is read again in any case. Saving a participant through this store evicts it right away. Once
+ * the cache holds {@code maxSize} entries, the least recently used one is evicted.
+ * <p>
+ * All the other operations are delegated to the decorated store.
+ */
+public class CachingParticipantStore implements ParticipantStore {
+
+    public static final Duration DEFAULT_REVALIDATE_AFTER = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_EXPIRE_AFTER = Duration.ofMinutes(5);
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final ParticipantStore delegate;
+    private final long revalidateAfterMillis;
+    private final long expireAfterMillis;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+    // incremented on each save, so that a participant read before a save is not cached after it
+    private long generation;
+
+    public CachingParticipantStore(ParticipantStore delegate) {
+        this(delegate, DEFAULT_REVALIDATE_AFTER, DEFAULT_EXPIRE_AFTER, DEFAULT_MAX_SIZE, Clock.systemUTC());
+    }
+
+    public CachingParticipantStore(ParticipantStore delegate, Duration revalidateAfter, Duration expireAfter, int maxSize, Clock clock) {
+        if (revalidateAfter.isNegative() || expireAfter.compareTo(revalidateAfter) < 0) {
+            throw new IllegalArgumentException(format("Invalid participant cache durations: revalidate after %s, expire after %s", revalidateAfter, expireAfter));
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(format("Invalid participant cache size %s, must be positive", maxSize));
+        }
+        this.delegate = delegate;
+        this.revalidateAfterMillis = revalidateAfter.toMillis();
+        this.expireAfterMillis = expireAfter.toMillis();
+        this.clock = clock;
+        // access-ordered, so that the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public @Nullable Participant findByDid(String did) {
+        var now = clock.millis();
+        Entry entry;
+        long readGeneration;
+        synchronized (entries) {
+            entry = entries.get(did);
+            if (entry != null && now < entry.validatedAt() + revalidateAfterMillis) {
+                return copy(entry.participant());
+            }
+            readGeneration = generation;
+        }
+
+        // read outside the lock, the store can involve a database round trip
+        if (entry != null && now < entry.readAt() + expireAfterMillis && Objects.equals(delegate.findUpdatedAt(did), updatedAt(entry.participant()))) {
+            cache(did, new Entry(entry.participant(), entry.readAt(), now), readGeneration);
+            return copy(entry.participant());
+        }
+
+        var participant = delegate.findByDid(did);
+        cache(did, new Entry(participant, now, now), readGeneration);
+        return copy(participant);
+    }
+
+    @Override
+    public @Nullable Long findUpdatedAt(String did) {
+        return delegate.findUpdatedAt(did);
+    }
+
+    @Override
+    public List<Participant> listParticipants() {
+        return delegate.listParticipants();
+    }
+
+    @Override
+    public List<Participant> listParticipants(int limit, @Nullable String after) {
+        return delegate.listParticipants(limit, after);
+    }
+
+    @Override
+    public List<Participant> listParticipantsUpdatedSince(long updatedSince, @Nullable String after, int limit) {
+        return delegate.listParticipantsUpdatedSince(updatedSince, after, limit);
+    }
+
+    @Override
+    public Stream<Participant> streamParticipants() {
+        return delegate.streamParticipants();
+    }
+
+    @Override
+    public Map<ParticipantStatus, Long> countByStatus() {
+        return delegate.countByStatus();
+    }
+
+    @Override
+    public StoreResult<Participant> save(Participant participant, @Nullable String leaseHolder) {
+        try {
+            return delegate.save(participant, leaseHolder);
+        } finally {
+            evict(List.of(participant));
+        }
+    }
+
+    @Override
+    public StoreResult<Void> saveAll(Collection<Participant> participants, @Nullable String leaseHolder) {
+        try {
+            return delegate.saveAll(participants, leaseHolder);
+        } finally {
+            evict(participants);
+        }
+    }
+
+    @Override
+    public Collection<Participant> listParticipantsWithStatus(ParticipantStatus state) {
+        return delegate.listParticipantsWithStatus(state);
+    }
+
+    @Override
+    public List<Participant> claimParticipantsWithStatus(ParticipantStatus state, int max, String leaseHolder, Duration leaseDuration) {
+        return delegate.claimParticipantsWithStatus(state, max, leaseHolder, leaseDuration);
+    }
+
+    private void cache(String did, Entry entry, long readGeneration) {
+        synchronized (entries) {
+            if (generation == readGeneration) {
+                entries.put(did, entry);
+            }
+        }
+    }
+
+    private void evict(Collection<Participant> participants) {
+        synchronized (entries) {
+            generation++;
+            participants.forEach(participant -> entries.remove(participant.getDid()));
+        }
+    }
+
+    @Nullable
+    private static Long updatedAt(@Nullable Participant participant) {
+        return participant != null ? participant.getUpdatedAt() : null;
+    }
+
+    /**
+     * Callers get their own copy, as participants are mutable.
+     */
+    @Nullable
+    private static Participant copy(@Nullable Participant participant) {
+        return participant != null ? participant.copy() : null;
+    }
+
+    private record Entry(@Nullable Participant participant, long readAt, long validatedAt) {
+    }
+}
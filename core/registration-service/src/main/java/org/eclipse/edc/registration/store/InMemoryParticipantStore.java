@@ -20,38 +20,326 @@ import org.eclipse.edc.registration.store.spi.ParticipantStore;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
 
 /**
  * In-memory store for dataspace participants.
+ * <p>
+ * The DIDs of the participants are indexed by the state they were saved in, so that looking up the participants in a
+ * given state costs time proportional to their number rather than to the size of the store. They are also indexed by the
+ * time they were last updated, so that listing the participants updated since a given time costs time proportional to
+ * their number, and sorted, so that reading a page of participants costs time proportional to its size.
+ * <p>
+ * Given a {@link ParticipantLog}, the store is durable: the participants it holds are loaded from the log, and each
+ * participant saved is appended to it before the save returns. The log is compacted in the background once it grows
+ * beyond its threshold. Leases are not persisted, so participants claimed before a restart can be claimed again.
  */
-public class InMemoryParticipantStore implements ParticipantStore {
+public class InMemoryParticipantStore implements ParticipantStore, AutoCloseable {
+
+    private final Map<String, Entry> storage = new ConcurrentHashMap<>();
+    private final Map<ParticipantStatus, Set<String>> statusIndex = new EnumMap<>(ParticipantStatus.class);
+    private final NavigableSet<UpdateKey> updateIndex = new ConcurrentSkipListSet<>();
+    private final NavigableSet<String> didIndex = new ConcurrentSkipListSet<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Clock clock;
+    @Nullable
+    private final ParticipantLog log;
+    @Nullable
+    private final ExecutorService compactionExecutor;
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    // held by saves to append to the log, and exclusively by compactions to start a new log segment
+    private final ReadWriteLock appendLock = new ReentrantReadWriteLock();
+
+    public InMemoryParticipantStore() {
+        this(Clock.systemUTC());
+    }
 
-    private final Map<String, Participant> storage = new ConcurrentHashMap<>();
+    public InMemoryParticipantStore(Clock clock) {
+        this(clock, null);
+    }
+
+    public InMemoryParticipantStore(Clock clock, @Nullable ParticipantLog log) {
+        this.clock = clock;
+        this.log = log;
+        for (var status : ParticipantStatus.values()) {
+            statusIndex.put(status, ConcurrentHashMap.newKeySet());
+        }
+        if (log != null) {
+            log.open(record -> load(log.decode(record), record));
+            compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                var thread = new Thread(runnable, "participant-log-compaction");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            compactionExecutor = null;
+        }
+    }
 
     @Override
     public @Nullable Participant findByDid(String did) {
-        return storage.get(did);
+        var entry = storage.get(did);
+        return entry != null ? entry.participant() : null;
     }
 
     @Override
     public List<Participant> listParticipants() {
-        return new ArrayList<>(storage.values());
+        return storage.values().stream().map(Entry::participant).collect(Collectors.toList());
     }
 
     @Override
-    public StoreResult<Participant> save(Participant participant) {
-        storage.put(participant.getDid(), participant);
-        return null;
+    public List<Participant> listParticipants(int limit, @Nullable String after) {
+        var from = after == null ? didIndex : didIndex.tailSet(after, false);
+        return from.stream()
+                .map(storage::get)
+                .filter(Objects::nonNull)
+                .map(Entry::participant)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Participant> listParticipantsUpdatedSince(long updatedSince, @Nullable String after, int limit) {
+        var from = after == null ? updateIndex.tailSet(new UpdateKey(updatedSince, ""), true) : updateIndex.tailSet(new UpdateKey(updatedSince, after), false);
+        return from.stream()
+                .map(key -> {
+                    var entry = storage.get(key.did());
+                    // leaves out the keys of participants updated again since they were read
+                    return entry != null && entry.updatedAt() == key.updatedAt() ? entry.participant() : null;
+                })
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Participant> streamParticipants() {
+        return storage.values().stream().map(Entry::participant);
+    }
+
+    /**
+     * Counts the participants from the sizes of the index, each participant being indexed in the state it was saved in.
+     */
+    @Override
+    public Map<ParticipantStatus, Long> countByStatus() {
+        var counts = new EnumMap<ParticipantStatus, Long>(ParticipantStatus.class);
+        statusIndex.forEach((status, dids) -> {
+            var count = dids.size();
+            if (count > 0) {
+                counts.put(status, (long) count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Checks the lease and stores the participant under the lock of the store, so that it cannot be claimed in between,
+     * but syncs the log outside of it, so that concurrent saves are synced together.
+     */
+    @Override
+    public StoreResult<Participant> save(Participant participant, @Nullable String leaseHolder) {
+        var record = log != null ? log.encode(participant) : null;
+        long sequence;
+        synchronized (this) {
+            if (!isSaveable(participant.getDid(), leaseHolder, clock.millis())) {
+                return StoreResult.alreadyLeased(leasedMessage(participant));
+            }
+            sequence = put(participant, record);
+            leases.remove(participant.getDid());
+        }
+        sync(sequence);
+        return StoreResult.success(participant);
+    }
+
+    @Override
+    public StoreResult<Void> saveAll(Collection<Participant> participants, @Nullable String leaseHolder) {
+        var records = participants.stream().map(participant -> log != null ? log.encode(participant) : null).toList();
+        // the participants are appended to the log one by one, but synced at once
+        var sequence = 0L;
+        synchronized (this) {
+            var now = clock.millis();
+            for (var participant : participants) {
+                if (!isSaveable(participant.getDid(), leaseHolder, now)) {
+                    return StoreResult.alreadyLeased(leasedMessage(participant));
+                }
+            }
+            var i = 0;
+            for (var participant : participants) {
+                sequence = Math.max(sequence, put(participant, records.get(i++)));
+                leases.remove(participant.getDid());
+            }
+        }
+        sync(sequence);
+        return StoreResult.success();
     }
 
     @Override
     public Collection<Participant> listParticipantsWithStatus(ParticipantStatus status) {
-        return storage.values().stream().filter(p -> p.getStatus() == status).collect(Collectors.toList());
+        return participantsWithStatus(status).collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized List<Participant> claimParticipantsWithStatus(ParticipantStatus state, int max, String leaseHolder, Duration leaseDuration) {
+        var now = clock.millis();
+        var claimed = participantsWithStatus(state)
+                .filter(p -> isClaimable(p.getDid(), now))
+                .sorted(Comparator.comparingLong(Participant::getStateTimestamp))
+                .limit(max)
+                .collect(Collectors.toList());
+
+        var lease = new Lease(leaseHolder, now + leaseDuration.toMillis());
+        claimed.forEach(p -> leases.put(p.getDid(), lease));
+        return claimed;
+    }
+
+    /**
+     * Closes the log of a durable store, waiting for a running compaction to complete.
+     */
+    @Override
+    public void close() {
+        if (log != null) {
+            compactionExecutor.shutdown();
+            try {
+                compactionExecutor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.close();
+        }
+    }
+
+    /**
+     * Stores the participant along with its serialized form, if durable.
+     *
+     * @return the sequence number of the participant in the log, 0 if not durable.
+     */
+    private long put(Participant participant, byte @Nullable [] record) {
+        var status = participant.getStatus();
+        var sequence = new long[1];
+        if (log != null) {
+            appendLock.readLock().lock();
+        }
+        try {
+            // the index and the log are updated under the lock of the entry, so that concurrent saves of a participant
+            // leave them consistent with the stored participant
+            storage.compute(participant.getDid(), (did, previous) -> {
+                if (log != null) {
+                    sequence[0] = log.append(record);
+                }
+                return index(did, previous, new Entry(participant, status, participant.getUpdatedAt(), record));
+            });
+        } finally {
+            if (log != null) {
+                appendLock.readLock().unlock();
+            }
+        }
+        return sequence[0];
+    }
+
+    private void load(Participant participant, byte[] record) {
+        storage.compute(participant.getDid(), (did, previous) -> index(did, previous, new Entry(participant, participant.getStatus(), participant.getUpdatedAt(), record)));
+    }
+
+    private Entry index(String did, @Nullable Entry previous, Entry entry) {
+        if (previous == null) {
+            didIndex.add(did);
+        }
+        if (previous != null && previous.status() != entry.status()) {
+            statusIndex.get(previous.status()).remove(did);
+        }
+        statusIndex.get(entry.status()).add(did);
+        if (previous != null && previous.updatedAt() != entry.updatedAt()) {
+            updateIndex.remove(new UpdateKey(previous.updatedAt(), did));
+        }
+        updateIndex.add(new UpdateKey(entry.updatedAt(), did));
+        return entry;
+    }
+
+    private void sync(long sequence) {
+        if (log == null) {
+            return;
+        }
+        log.sync(sequence);
+        if (log.compactionDue() && compacting.compareAndSet(false, true)) {
+            compactionExecutor.execute(this::compact);
+        }
+    }
+
+    /**
+     * Snapshots the participants as serialized when saved, rather than as they are in memory, as participants can be
+     * modified without being saved.
+     */
+    private void compact() {
+        try {
+            log.compact(appendLock.writeLock(), () -> storage.values().stream().map(Entry::record));
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    /**
+     * Participants indexed in the given state. As they are mutable, the ones whose state changed since they were saved
+     * are left out.
+     */
+    private Stream<Participant> participantsWithStatus(ParticipantStatus status) {
+        return statusIndex.get(status).stream()
+                .map(storage::get)
+                .filter(Objects::nonNull)
+                .map(Entry::participant)
+                .filter(p -> p.getStatus() == status);
+    }
+
+    private boolean isClaimable(String did, long now) {
+        var lease = leases.get(did);
+        return lease == null || lease.expiration() < now;
+    }
+
+    private boolean isSaveable(String did, @Nullable String leaseHolder, long now) {
+        var lease = leases.get(did);
+        if (leaseHolder == null) {
+            return lease == null || lease.expiration() < now;
+        }
+        // once the lease of the holder expired, another holder may have claimed, or even saved, the participant
+        return lease == null ? !storage.containsKey(did) : lease.holder().equals(leaseHolder) && lease.expiration() >= now;
+    }
+
+    private static String leasedMessage(Participant participant) {
+        return format("Participant %s is leased by another holder or its lease expired", participant.getDid());
+    }
+
+    private record Entry(Participant participant, ParticipantStatus status, long updatedAt, byte @Nullable [] record) {
+    }
+
+    private record UpdateKey(long updatedAt, String did) implements Comparable<UpdateKey> {
+        private static final Comparator<UpdateKey> ORDER = Comparator.comparingLong(UpdateKey::updatedAt).thenComparing(UpdateKey::did);
+
+        @Override
+        public int compareTo(UpdateKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record Lease(String holder, long expiration) {
     }
 }
@@ -0,0 +1,407 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Write-ahead log of the participants saved in an {@link InMemoryParticipantStore}, so that they survive a restart.
+ * <p>
+ * Each saved participant is appended as a record to the current segment file of the log. A save is durable once
+ * {@link #sync(long)} returns: concurrent saves share a single fsync, done by whichever caller comes first while the
+ * others wait for it (group commit).
+ * <p>
+ * Once the segments exceed {@code compactionThreshold} bytes, the log can be {@link #compact compacted}: a new segment
+ * is started, and a snapshot of all participants replaces the previous segments. At startup, the latest snapshot is
+ * loaded and the segments written after it are replayed, the last record of a participant being its current state. A
+ * record only partially written when the runtime stopped is discarded.
+ * <p>
+ * Records are framed by their length and CRC32 checksum, followed by the participant as JSON.
+ */
+public class ParticipantLog implements AutoCloseable {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64L * 1024 * 1024;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SUFFIX = ".log";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final long compactionThreshold;
+    private final Monitor monitor;
+
+    // guards the segment, its number and the sequence of written records
+    private final Object writeLock = new Object();
+    private FileChannel segment;
+    private long segmentNumber;
+    private long segmentsSize;
+    private long written;
+
+    // guards the sequence of durable records
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition syncDone = syncLock.newCondition();
+    private long durable;
+    private boolean syncing;
+
+    public ParticipantLog(Path directory, ObjectMapper objectMapper, long compactionThreshold, Monitor monitor) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.compactionThreshold = compactionThreshold;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Loads the records of the latest snapshot and of the segments written after it, then opens the log for appending.
+     *
+     * @param consumer receives the records in the order they were written.
+     */
+    public void open(Consumer<byte[]> consumer) {
+        try {
+            Files.createDirectories(directory);
+            deleteFiles(TEMP_SUFFIX, Long.MAX_VALUE);
+
+            var snapshots = files(SNAPSHOT_PREFIX);
+            var firstSegment = 0L;
+            if (!snapshots.isEmpty()) {
+                var snapshot = snapshots.get(snapshots.size() - 1);
+                firstSegment = number(snapshot, SNAPSHOT_PREFIX);
+                // snapshots are written atomically, a corrupted one cannot be recovered from
+                if (read(snapshot, consumer) < Files.size(snapshot)) {
+                    throw new EdcPersistenceException("Corrupted participant snapshot " + snapshot);
+                }
+            }
+
+            var start = firstSegment;
+            var segments = files(SEGMENT_PREFIX).stream().filter(path -> number(path, SEGMENT_PREFIX) >= start).toList();
+            for (var path : segments) {
+                var length = read(path, consumer);
+                var size = Files.size(path);
+                if (length < size) {
+                    monitor.warning(format("Discarding %s bytes of incomplete records at the end of %s", size - length, path));
+                    try (var channel = FileChannel.open(path, WRITE)) {
+                        channel.truncate(length);
+                    }
+                }
+                segmentsSize += length;
+            }
+            deleteFiles(SEGMENT_PREFIX, firstSegment);
+            deleteFiles(SNAPSHOT_PREFIX, firstSegment);
+
+            segmentNumber = segments.isEmpty() ? firstSegment : number(segments.get(segments.size() - 1), SEGMENT_PREFIX);
+            segment = FileChannel.open(segmentPath(segmentNumber), CREATE, WRITE, APPEND);
+        } catch (IOException e) {
+            throw new EdcPersistenceException("Failed to open participant log in " + directory, e);
+        }
+    }
+
+    byte[] encode(Participant participant) {
+        try {
+            return objectMapper.writeValueAsBytes(participant);
+        } catch (IOException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    Participant decode(byte[] record) {
+        try {
+            return objectMapper.readValue(record, Participant.class);
+        } catch (IOException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    /**
+     * Appends a record to the current segment, without waiting for it to be durable.
+     *
+     * @return the sequence number of the record, to be passed to {@link #sync(long)}.
+     */
+    long append(byte[] record) {
+        var frame = frame(record);
+        synchronized (writeLock) {
+            try {
+                while (frame.hasRemaining()) {
+                    segment.write(frame);
+                }
+            } catch (IOException e) {
+                throw new EdcPersistenceException("Failed to append to participant log", e);
+            }
+            segmentsSize += frame.limit();
+            return ++written;
+        }
+    }
+
+    /**
+     * Waits until the record with the given sequence number, and all the ones before it, are durable.
+     */
+    void sync(long sequence) {
+        syncLock.lock();
+        try {
+            while (durable < sequence) {
+                if (syncing) {
+                    syncDone.awaitUninterruptibly();
+                    continue;
+                }
+
+                // this caller syncs all the records written so far, on behalf of the waiting ones
+                syncing = true;
+                long target;
+                FileChannel channel;
+                synchronized (writeLock) {
+                    target = written;
+                    channel = segment;
+                }
+                syncLock.unlock();
+                try {
+                    force(channel);
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    syncDone.signalAll();
+                }
+                durable = Math.max(durable, target);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Whether the segments written since the last snapshot exceed the compaction threshold.
+     */
+    boolean compactionDue() {
+        synchronized (writeLock) {
+            return segmentsSize > compactionThreshold;
+        }
+    }
+
+    /**
+     * Replaces the segments written so far with a snapshot of the given records. A failure is reported, and leaves the
+     * segments in place until the next compaction.
+     *
+     * @param rotationLock held while a new segment is started, it must exclude the appends whose record is not yet
+     *                     included in {@code records}.
+     * @param records      the current record of each participant.
+     */
+    void compact(Lock rotationLock, Supplier<Stream<byte[]>> records) {
+        try {
+            long snapshotNumber;
+            rotationLock.lock();
+            try {
+                snapshotNumber = rotate();
+            } finally {
+                rotationLock.unlock();
+            }
+            snapshot(snapshotNumber, records.get());
+        } catch (EdcPersistenceException e) {
+            monitor.severe("Failed to compact participant log", e);
+        }
+    }
+
+    /**
+     * Starts a new segment, the records appended before it are all included in the next snapshot.
+     *
+     * @return the number of the new segment.
+     */
+    private long rotate() {
+        synchronized (writeLock) {
+            var number = segmentNumber + 1;
+            try {
+                force(segment);
+                segment.close();
+                segment = FileChannel.open(segmentPath(number), CREATE, WRITE, APPEND);
+            } catch (IOException e) {
+                throw new EdcPersistenceException("Failed to start a new participant log segment", e);
+            }
+            segmentNumber = number;
+            segmentsSize = 0;
+            return number;
+        }
+    }
+
+    private void snapshot(long number, Stream<byte[]> records) {
+        var snapshot = directory.resolve(SNAPSHOT_PREFIX + format("%016d", number) + SUFFIX);
+        var temp = directory.resolve(snapshot.getFileName() + TEMP_SUFFIX);
+        try {
+            try (var channel = FileChannel.open(temp, CREATE, WRITE, TRUNCATE_EXISTING);
+                 var out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+                for (var iterator = records.iterator(); iterator.hasNext(); ) {
+                    out.write(frame(iterator.next()).array());
+                }
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE);
+            forceDirectory();
+            deleteFiles(SEGMENT_PREFIX, number);
+            deleteFiles(SNAPSHOT_PREFIX, number);
+        } catch (IOException e) {
+            throw new EdcPersistenceException("Failed to write participant snapshot " + snapshot, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            if (segment == null) {
+                return;
+            }
+            try {
+                force(segment);
+                segment.close();
+            } catch (IOException e) {
+                monitor.warning("Failed to close participant log", e);
+            }
+        }
+    }
+
+    private static ByteBuffer frame(byte[] record) {
+        var crc = new CRC32();
+        crc.update(record);
+        return ByteBuffer.allocate(HEADER_SIZE + record.length)
+                .putInt(record.length)
+                .putInt((int) crc.getValue())
+                .put(record)
+                .flip();
+    }
+
+    /**
+     * Reads the complete, valid records of the given file.
+     *
+     * @return the length of the file up to the end of the last valid record.
+     */
+    private static long read(Path path, Consumer<byte[]> consumer) throws IOException {
+        var length = 0L;
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path, READ)))) {
+            while (true) {
+                int size;
+                try {
+                    size = in.readInt();
+                } catch (EOFException e) {
+                    return length;
+                }
+                try {
+                    var checksum = in.readInt();
+                    if (size < 0) {
+                        return length;
+                    }
+                    var record = in.readNBytes(size);
+                    var crc = new CRC32();
+                    crc.update(record);
+                    if (record.length < size || (int) crc.getValue() != checksum) {
+                        return length;
+                    }
+                    consumer.accept(record);
+                    length += HEADER_SIZE + size;
+                } catch (EOFException e) {
+                    return length;
+                }
+            }
+        }
+    }
+
+    private static void force(FileChannel channel) {
+        try {
+            channel.force(false);
+        } catch (ClosedChannelException e) {
+            // the segment was closed by a compaction, which forced it beforehand
+        } catch (IOException e) {
+            throw new EdcPersistenceException("Failed to sync participant log", e);
+        }
+    }
+
+    /**
+     * Makes the renaming of a snapshot durable, on the file systems that support it.
+     */
+    private void forceDirectory() {
+        try (var channel = FileChannel.open(directory, READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            monitor.debug("Participant log directory could not be synced: " + e.getMessage());
+        }
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (var paths = Files.list(directory)) {
+            return paths.filter(path -> isLogFile(path, prefix))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Deletes the files with the given prefix numbered below {@code before}, or the temporary files.
+     */
+    private void deleteFiles(String prefixOrSuffix, long before) throws IOException {
+        try (var paths = Files.list(directory)) {
+            for (var path : paths.toList()) {
+                var name = path.getFileName().toString();
+                var matches = prefixOrSuffix.equals(TEMP_SUFFIX) ? name.endsWith(TEMP_SUFFIX) : isLogFile(path, prefixOrSuffix) && number(path, prefixOrSuffix) < before;
+                if (matches) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(SEGMENT_PREFIX + format("%016d", number) + SUFFIX);
+    }
+
+    private static boolean isLogFile(Path path, String prefix) {
+        var name = path.getFileName().toString();
+        return name.startsWith(prefix) && name.endsWith(SUFFIX);
+    }
+
+    private static long number(Path path, String prefix) {
+        var name = path.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.did;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDidResolverRegistryImplTest {
+
+    private static final String DID = "did:web:participant";
+
+    private final DidResolverRegistry delegate = mock(DidResolverRegistry.class);
+    private final Clock clock = mock(Clock.class);
+    private CachingDidResolverRegistryImpl registry;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.resolve(anyString())).thenAnswer(i -> Result.success(didDocument(i.getArgument(0))));
+        registry = new CachingDidResolverRegistryImpl(delegate, Duration.ofMillis(1000), Duration.ofMillis(100), 2, clock);
+    }
+
+    @Test
+    void resolve_cachesDocument() {
+        var first = registry.resolve(DID);
+        var second = registry.resolve(DID);
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        verify(delegate, times(1)).resolve(DID);
+        assertThat(registry.hitCount()).isEqualTo(1);
+        assertThat(registry.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void bindTo_publishesHitsAndMisses() {
+        var meterRegistry = new SimpleMeterRegistry();
+        registry.bindTo(meterRegistry);
+
+        registry.resolve(DID);
+        registry.resolve(DID);
+        registry.resolve("did:web:other");
+
+        assertThat(meterRegistry.get("registration.did.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("registration.did.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void resolve_resolvesAgainOnceExpired() {
+        registry.resolve(DID);
+
+        when(clock.millis()).thenReturn(1000L);
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolve(DID);
+        assertThat(registry.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void resolve_cachesFailureForNegativeTtl() {
+        when(delegate.resolve(DID)).thenReturn(Result.failure("unreachable"));
+
+        assertThat(registry.resolve(DID).failed()).isTrue();
+        when(clock.millis()).thenReturn(99L);
+        assertThat(registry.resolve(DID).failed()).isTrue();
+        verify(delegate, times(1)).resolve(DID);
+
+        when(clock.millis()).thenReturn(100L);
+        registry.resolve(DID);
+        verify(delegate, times(2)).resolve(DID);
+    }
+
+    @Test
+    void resolve_negativeTtlZero_doesNotCacheFailure() {
+        registry = new CachingDidResolverRegistryImpl(delegate, Duration.ofMillis(1000), Duration.ZERO, 2, clock);
+        when(delegate.resolve(DID)).thenReturn(Result.failure("unreachable"));
+
+        registry.resolve(DID);
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolve(DID);
+    }
+
+    @Test
+    void resolve_evictsLeastRecentlyUsed() {
+        registry.resolve("did:web:a");
+        registry.resolve("did:web:b");
+        registry.resolve("did:web:a");
+
+        registry.resolve("did:web:c");
+
+        registry.resolve("did:web:a");
+        registry.resolve("did:web:b");
+        verify(delegate, times(1)).resolve("did:web:a");
+        verify(delegate, times(2)).resolve("did:web:b");
+    }
+
+    @Test
+    void invalidate_resolvesAgain() {
+        registry.resolve(DID);
+
+        registry.invalidate(DID);
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolve(DID);
+    }
+
+    @Test
+    void resolve_concurrently_sharesResolution() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(delegate.resolve(DID)).thenAnswer(i -> {
+            started.countDown();
+            release.await(10, SECONDS);
+            return Result.success(didDocument(DID));
+        });
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var first = executor.submit(() -> registry.resolve(DID));
+            assertThat(started.await(10, SECONDS)).isTrue();
+            var second = executor.submit(() -> registry.resolve(DID));
+            // the second resolution counts as a hit once it waits for the first one
+            var deadline = System.currentTimeMillis() + 10_000;
+            while (registry.hitCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            assertThat(second.get(10, SECONDS).getContent()).isSameAs(first.get(10, SECONDS).getContent());
+            verify(delegate, times(1)).resolve(DID);
+            assertThat(registry.hitCount()).isEqualTo(1);
+            assertThat(registry.missCount()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidate_duringResolution_doesNotCacheIt() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(delegate.resolve(DID)).thenAnswer(i -> {
+            started.countDown();
+            release.await(10, SECONDS);
+            return Result.success(didDocument(DID));
+        });
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var stale = executor.submit(() -> registry.resolve(DID));
+            assertThat(started.await(10, SECONDS)).isTrue();
+
+            registry.invalidate(DID);
+            release.countDown();
+            stale.get(10, SECONDS);
+            registry.resolve(DID);
+
+            verify(delegate, times(2)).resolve(DID);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void register_delegatesAndClearsCache() {
+        var resolver = mock(DidResolver.class);
+        registry.resolve(DID);
+
+        registry.register(resolver);
+        registry.resolve(DID);
+
+        verify(delegate).register(resolver);
+        verify(delegate, times(2)).resolve(DID);
+    }
+
+    @Test
+    void invalidSettings() {
+        assertThatThrownBy(() -> new CachingDidResolverRegistryImpl(delegate, Duration.ofMillis(-1), Duration.ZERO, 2, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CachingDidResolverRegistryImpl(delegate, Duration.ZERO, Duration.ZERO, 0, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static DidDocument didDocument(String did) {
+        return DidDocument.Builder.newInstance().id(did).build();
+    }
+}
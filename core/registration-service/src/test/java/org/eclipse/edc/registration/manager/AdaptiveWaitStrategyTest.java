@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.manager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveWaitStrategyTest {
+
+    @Test
+    void waitForMillis_backsOffUpToMax() {
+        var strategy = new AdaptiveWaitStrategy(100, 1000, 2);
+        strategy.close();
+
+        assertThat(strategy.waitForMillis()).isEqualTo(100);
+        assertThat(strategy.waitForMillis()).isEqualTo(200);
+        assertThat(strategy.waitForMillis()).isEqualTo(400);
+        assertThat(strategy.waitForMillis()).isEqualTo(800);
+        assertThat(strategy.waitForMillis()).isEqualTo(1000);
+        assertThat(strategy.waitForMillis()).isEqualTo(1000);
+    }
+
+    @Test
+    void activity_resetsToMin() {
+        var strategy = new AdaptiveWaitStrategy(100, 1000, 2);
+        strategy.close();
+        strategy.waitForMillis();
+        strategy.waitForMillis();
+
+        strategy.activity();
+
+        assertThat(strategy.waitForMillis()).isEqualTo(100);
+    }
+
+    @Test
+    void waitForMillis_waits() {
+        var strategy = new AdaptiveWaitStrategy(200, 1000, 2);
+
+        var start = System.nanoTime();
+        var remaining = strategy.waitForMillis();
+
+        assertThat(remaining).isZero();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    void wakeUp_endsWait() {
+        var strategy = new AdaptiveWaitStrategy(60_000, 60_000, 1);
+
+        var wait = CompletableFuture.supplyAsync(strategy::waitForMillis);
+        strategy.wakeUp();
+
+        assertThat(wait).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(0L);
+    }
+
+    @Test
+    void wakeUp_beforeWait_skipsNextWait() {
+        var strategy = new AdaptiveWaitStrategy(60_000, 60_000, 1);
+
+        strategy.wakeUp();
+
+        assertThat(CompletableFuture.supplyAsync(strategy::waitForMillis)).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(0L);
+    }
+
+    @Test
+    void close_endsWait() {
+        var strategy = new AdaptiveWaitStrategy(60_000, 60_000, 1);
+
+        var wait = CompletableFuture.supplyAsync(strategy::waitForMillis);
+        strategy.close();
+
+        assertThat(wait).succeedsWithin(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void open_waitsAgainAfterClose() {
+        var strategy = new AdaptiveWaitStrategy(200, 1000, 2);
+        strategy.close();
+        strategy.waitForMillis();
+
+        strategy.open();
+
+        var start = System.nanoTime();
+        assertThat(strategy.waitForMillis()).isZero();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    void invalidSettings() {
+        assertThatThrownBy(() -> new AdaptiveWaitStrategy(0, 1000, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveWaitStrategy(1000, 100, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveWaitStrategy(100, 1000, 0.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
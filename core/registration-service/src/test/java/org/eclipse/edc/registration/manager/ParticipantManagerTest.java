@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.registration.manager;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.edc.registration.spi.model.Participant;
 import org.eclipse.edc.registration.spi.model.ParticipantStatus;
 import org.eclipse.edc.registration.spi.service.VerifiableCredentialService;
@@ -22,6 +23,7 @@ import org.eclipse.edc.registration.store.spi.ParticipantStore;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,7 +32,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.ArgumentCaptor;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -43,9 +48,14 @@ import static org.eclipse.edc.registration.spi.model.ParticipantStatus.FAILED;
 import static org.eclipse.edc.registration.spi.model.ParticipantStatus.ONBOARDED;
 import static org.eclipse.edc.registration.spi.model.ParticipantStatus.ONBOARDING_INITIATED;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,14 +65,16 @@ class ParticipantManagerTest {
     private final ParticipantStore participantStore = mock(ParticipantStore.class);
     private final OnboardingPolicyVerifier participantVerifier = mock(OnboardingPolicyVerifier.class);
     private final VerifiableCredentialService verifiableCredentialService = mock(VerifiableCredentialService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private final Participant.Builder participantBuilder = createParticipant();
-    private final ArgumentCaptor<Participant> captor = ArgumentCaptor.forClass(Participant.class);
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<Collection<Participant>> batchCaptor = ArgumentCaptor.forClass(Collection.class);
 
     private ParticipantManager manager;
 
     @BeforeEach
     void setUp() {
-        manager = new ParticipantManager(monitor, participantStore, participantVerifier, ExecutorInstrumentation.noop(), verifiableCredentialService, new Telemetry());
+        manager = managerBuilder().build();
     }
 
     @Test
@@ -104,21 +116,181 @@ class ParticipantManagerTest {
         advancesState(AUTHORIZED, ONBOARDED);
     }
 
+    @Test
+    void recordsTransition_onceSaved() {
+        var participant = participantBuilder.status(AUTHORIZED).build();
+        when(participantStore.claimParticipantsWithStatus(eq(AUTHORIZED), anyInt(), eq("test-runtime"), any())).thenReturn(List.of(participant), List.of());
+        when(verifiableCredentialService.pushVerifiableCredential(any())).thenReturn(StatusResult.success());
+        when(participantStore.save(any(), eq("test-runtime"))).thenReturn(StoreResult.success(participant));
+
+        manager.start();
+        // the next claim happens once the participant is saved and its transition recorded
+        verify(participantStore, timeout(5000).atLeast(2)).claimParticipantsWithStatus(eq(AUTHORIZED), anyInt(), eq("test-runtime"), any());
+        manager.stop();
+
+        assertThat(meterRegistry.get("registration.participants.transitions").tag("state", "ONBOARDED").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("registration.participants.processing").tag("state", "AUTHORIZED").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("registration.participants.onboarding").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsNoTransition_whenSaveFails() {
+        var participant = participantBuilder.status(AUTHORIZED).build();
+        when(participantStore.claimParticipantsWithStatus(eq(AUTHORIZED), anyInt(), eq("test-runtime"), any())).thenReturn(List.of(participant), List.of());
+        when(verifiableCredentialService.pushVerifiableCredential(any())).thenReturn(StatusResult.success());
+        when(participantStore.save(any(), eq("test-runtime"))).thenReturn(StoreResult.alreadyLeased("test"));
+
+        manager.start();
+        verify(participantStore, timeout(5000).atLeast(2)).claimParticipantsWithStatus(eq(AUTHORIZED), anyInt(), eq("test-runtime"), any());
+        manager.stop();
+
+        assertThat(meterRegistry.get("registration.participants.transitions").counters()).allSatisfy(c -> assertThat(c.count()).isZero());
+        assertThat(meterRegistry.get("registration.participants.onboarding").timer().count()).isZero();
+        assertThat(meterRegistry.get("registration.participants.processing").tag("state", "AUTHORIZED").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void advancesStateFromAuthorizedToOnboarded_withWorkers() throws Exception {
+        manager = managerBuilder().workers(AUTHORIZED, 4).build();
+        when(verifiableCredentialService.pushVerifiableCredential(any()))
+                .thenReturn(StatusResult.success());
+        advancesState(AUTHORIZED, ONBOARDED);
+    }
+
+    @Test
+    void claimsNoMoreThanIdleWorkers() throws Exception {
+        manager = managerBuilder().workers(AUTHORIZING, 2).batchSize(10).build();
+        var participant = participantBuilder.status(AUTHORIZING).build();
+        var release = new CountDownLatch(1);
+        when(participantStore.claimParticipantsWithStatus(eq(AUTHORIZING), anyInt(), eq("test-runtime"), any())).thenReturn(List.of(participant));
+        when(participantVerifier.isOnboardingAllowed(any())).thenAnswer(invocation -> {
+            release.await(10, SECONDS);
+            return StatusResult.success(true);
+        });
+
+        manager.start();
+
+        verify(participantStore, timeout(5000)).claimParticipantsWithStatus(eq(AUTHORIZING), eq(2), eq("test-runtime"), any());
+        verify(participantStore, timeout(5000)).claimParticipantsWithStatus(eq(AUTHORIZING), eq(1), eq("test-runtime"), any());
+        verify(participantStore, never()).claimParticipantsWithStatus(eq(AUTHORIZING), eq(10), any(), any());
+
+        release.countDown();
+        manager.stop();
+    }
+
+    @Test
+    void savesBatchTogether() throws Exception {
+        var participants = List.of(
+                createParticipant().did("did:web:1").status(ONBOARDING_INITIATED).build(),
+                createParticipant().did("did:web:2").status(ONBOARDING_INITIATED).build(),
+                createParticipant().did("did:web:3").status(ONBOARDING_INITIATED).build());
+        when(participantStore.claimParticipantsWithStatus(eq(ONBOARDING_INITIATED), anyInt(), eq("test-runtime"), any())).thenReturn(participants, List.of());
+        var latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return StoreResult.success();
+        }).when(participantStore).saveAll(any(), eq("test-runtime"));
+
+        manager.start();
+        assertThat(latch.await(10, SECONDS)).isTrue();
+
+        verify(participantStore).saveAll(batchCaptor.capture(), eq("test-runtime"));
+        assertThat(batchCaptor.getValue()).hasSize(3).allSatisfy(p -> assertThat(p.getStatus()).isEqualTo(AUTHORIZING));
+        verify(participantStore, never()).save(any(), any());
+
+        manager.stop();
+    }
+
+    @Test
+    void savesParticipantsIndividually_afterExternalCall() throws Exception {
+        var participants = List.of(
+                createParticipant().did("did:web:1").status(AUTHORIZED).build(),
+                createParticipant().did("did:web:2").status(AUTHORIZED).build());
+        when(participantStore.claimParticipantsWithStatus(eq(AUTHORIZED), anyInt(), eq("test-runtime"), any())).thenReturn(participants, List.of());
+        when(verifiableCredentialService.pushVerifiableCredential(any())).thenReturn(StatusResult.success());
+        var latch = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return StoreResult.success(invocation.getArgument(0));
+        }).when(participantStore).save(any(), eq("test-runtime"));
+
+        manager.start();
+        assertThat(latch.await(10, SECONDS)).isTrue();
+
+        var inOrder = inOrder(verifiableCredentialService, participantStore);
+        for (var participant : participants) {
+            inOrder.verify(verifiableCredentialService).pushVerifiableCredential(participant);
+            inOrder.verify(participantStore).save(participant, "test-runtime");
+        }
+        verify(participantStore, never()).saveAll(any(), any());
+
+        manager.stop();
+    }
+
+    @Test
+    void restart_waitsWhileIdle() throws Exception {
+        manager = managerBuilder().waitStrategy(new AdaptiveWaitStrategy(10_000, 10_000, 1)).build();
+        manager.start();
+        manager.stop();
+
+        manager.start();
+        verify(participantStore, timeout(5000)).claimParticipantsWithStatus(eq(AUTHORIZED), anyInt(), eq("test-runtime"), any());
+        clearInvocations(participantStore);
+        Thread.sleep(500);
+
+        verify(participantStore, never()).claimParticipantsWithStatus(any(), anyInt(), any(), any());
+        manager.stop();
+    }
+
+    @Test
+    void build_registersMetricsOnce() {
+        when(participantStore.countByStatus()).thenReturn(Map.of(AUTHORIZING, 2L));
+        var meters = meterRegistry.getMeters().size();
+        assertThat(meters).isPositive();
+
+        manager.start();
+        manager.stop();
+        manager.start();
+        manager.stop();
+
+        assertThat(meterRegistry.getMeters()).hasSize(meters);
+        assertThat(meterRegistry.get("registration.participants").tag("state", "AUTHORIZING").gauge().value()).isEqualTo(2);
+    }
+
+    private ParticipantManager.Builder managerBuilder() {
+        return ParticipantManager.Builder.newInstance()
+                .participantStore(participantStore)
+                .participantVerifier(participantVerifier)
+                .vcService(verifiableCredentialService)
+                .monitor(monitor)
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .telemetry(new Telemetry())
+                .meterRegistry(meterRegistry)
+                .leaseHolder("test-runtime");
+    }
+
     private Participant advancesState(ParticipantStatus startState, ParticipantStatus endState) throws Exception {
         var participant = participantBuilder.status(startState).build();
-        when(participantStore.listParticipantsWithStatus(eq(startState))).thenReturn(List.of(participant), List.of());
+        when(participantStore.claimParticipantsWithStatus(eq(startState), anyInt(), eq("test-runtime"), any())).thenReturn(List.of(participant), List.of());
+        var saved = new CopyOnWriteArrayList<Participant>();
         var latch = new CountDownLatch(1);
         doAnswer(invocation -> {
+            saved.add(invocation.getArgument(0));
+            latch.countDown();
+            return StoreResult.success(invocation.getArgument(0));
+        }).when(participantStore).save(any(), eq("test-runtime"));
+        doAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
             latch.countDown();
-            return null;
-        }).when(participantStore).save(any());
+            return StoreResult.success();
+        }).when(participantStore).saveAll(any(), eq("test-runtime"));
 
         manager.start();
         assertThat(latch.await(10, SECONDS)).isTrue();
 
-        verify(participantStore).save(captor.capture());
-        assertThat(captor.getValue().getStatus()).isEqualTo(endState);
-        assertThat(captor.getValue())
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getStatus()).isEqualTo(endState);
+        assertThat(saved.get(0))
                 .usingRecursiveComparison()
                 .ignoringFieldsOfTypes(ParticipantStatus.class)
                 .isEqualTo(participant);
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.manager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.registration.spi.model.ParticipantStatus;
+import org.eclipse.edc.registration.store.spi.ParticipantStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registration.ParticipantUtils.createParticipant;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZED;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZING;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.DENIED;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.ONBOARDED;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.ONBOARDING_INITIATED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParticipantMetricsTest {
+
+    private static final Duration COUNTS_MAX_AGE = Duration.ofSeconds(30);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ParticipantStore participantStore = mock(ParticipantStore.class);
+    private final Monitor monitor = mock(Monitor.class);
+    private final Clock clock = mock(Clock.class);
+    private ParticipantMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        metrics = new ParticipantMetrics(registry, participantStore, monitor, COUNTS_MAX_AGE, clock);
+    }
+
+    @Test
+    void instrument_recordsProcessingTime() {
+        var function = metrics.instrument(AUTHORIZING, participant -> {
+            participant.transitionDenied();
+            return true;
+        });
+
+        function.apply(createParticipant().status(AUTHORIZING).build());
+
+        assertThat(registry.get("registration.participants.processing").tag("state", "AUTHORIZING").timer().count()).isEqualTo(1);
+        assertThat(registry.get("registration.participants.transitions").counters()).allSatisfy(c -> assertThat(c.count()).isZero());
+    }
+
+    @Test
+    void transitioned_recordsTransition() {
+        metrics.transitioned(createParticipant().status(DENIED).build());
+
+        assertThat(registry.get("registration.participants.transitions").tag("state", "DENIED").counter().count()).isEqualTo(1);
+        assertThat(registry.get("registration.participants.transitions").tag("state", "AUTHORIZED").counter().count()).isZero();
+        assertThat(registry.get("registration.participants.onboarding").timer().count()).isZero();
+    }
+
+    @Test
+    void transitioned_recordsTimeToOnboarded() {
+        var createdAt = System.currentTimeMillis() - 5_000;
+        var participant = createParticipant().status(AUTHORIZED).createdAt(createdAt).build();
+        participant.transitionOnboarded();
+
+        metrics.transitioned(participant);
+
+        var onboarding = registry.get("registration.participants.onboarding").timer();
+        assertThat(onboarding.count()).isEqualTo(1);
+        assertThat(onboarding.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(5_000);
+    }
+
+    @Test
+    void gauges_countParticipantsByState() {
+        when(participantStore.countByStatus()).thenReturn(Map.of(ONBOARDING_INITIATED, 1L, AUTHORIZING, 2L, ONBOARDED, 1L));
+
+        assertThat(gauge(AUTHORIZING)).isEqualTo(2);
+        assertThat(gauge(ONBOARDING_INITIATED)).isEqualTo(1);
+        assertThat(gauge(ONBOARDED)).isEqualTo(1);
+        assertThat(gauge(DENIED)).isZero();
+    }
+
+    @Test
+    void gauges_refreshCountsOnceTooOld() {
+        when(participantStore.countByStatus()).thenReturn(Map.of(AUTHORIZING, 1L), Map.of(AUTHORIZING, 2L));
+
+        assertThat(gauge(AUTHORIZING)).isEqualTo(1);
+        when(clock.millis()).thenReturn(COUNTS_MAX_AGE.toMillis() - 1);
+        assertThat(gauge(AUTHORIZING)).isEqualTo(1);
+        assertThat(gauge(ONBOARDED)).isZero();
+        verify(participantStore, times(1)).countByStatus();
+
+        when(clock.millis()).thenReturn(COUNTS_MAX_AGE.toMillis());
+        assertThat(gauge(AUTHORIZING)).isEqualTo(2);
+        verify(participantStore, times(2)).countByStatus();
+    }
+
+    @Test
+    void gauges_keepPreviousCounts_whenCountingFails() {
+        when(participantStore.countByStatus()).thenReturn(Map.of(AUTHORIZING, 1L))
+                .thenThrow(new IllegalStateException("test"));
+
+        assertThat(gauge(AUTHORIZING)).isEqualTo(1);
+        when(clock.millis()).thenReturn(COUNTS_MAX_AGE.toMillis());
+
+        assertThat(gauge(AUTHORIZING)).isEqualTo(1);
+        verify(monitor).warning(anyString(), any(IllegalStateException.class));
+    }
+
+    private double gauge(ParticipantStatus status) {
+        return registry.get("registration.participants").tag("state", status.name()).gauge().value();
+    }
+}
@@ -15,8 +15,11 @@
 package org.eclipse.edc.registration.service;
 
 import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.spi.registration.ParticipantListener;
 import org.eclipse.edc.registration.store.spi.ParticipantStore;
+import org.eclipse.edc.service.spi.result.ServiceFailure;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.jetbrains.annotations.NotNull;
@@ -24,29 +27,44 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.edc.registration.ParticipantUtils.createParticipant;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.ONBOARDED;
 import static org.eclipse.edc.registration.spi.model.ParticipantStatus.ONBOARDING_INITIATED;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class RegistrationServiceImplTest {
 
     private static final String DID = "some.test/url";
+    private static final long NOW = 100_000L;
+    private static final long GRACE_PERIOD = 10_000L;
 
     private final Monitor monitor = mock(Monitor.class);
     private final ParticipantStore participantStore = mock(ParticipantStore.class);
     private final Telemetry telemetryMock = mock(Telemetry.class);
+    private final ParticipantListener listener = mock(ParticipantListener.class);
 
     private RegistrationServiceImpl service;
 
     @BeforeEach
     void setUp() {
-        service = new RegistrationServiceImpl(monitor, participantStore, telemetryMock, new NoopTransactionContext());
+        service = new RegistrationServiceImpl(monitor, participantStore, telemetryMock, new NoopTransactionContext(), listener,
+                Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC), Duration.ofMillis(GRACE_PERIOD));
     }
 
     @Test
@@ -68,12 +86,78 @@ class RegistrationServiceImplTest {
         assertThat(result).containsExactly(participant);
     }
 
+    @Test
+    void listParticipants_paged() {
+        var participant = createParticipant().build();
+        when(participantStore.listParticipants(10, "did:web:previous")).thenReturn(List.of(participant));
+
+        var result = service.listParticipants(10, "did:web:previous");
+
+        assertThat(result).containsExactly(participant);
+    }
+
+    @Test
+    void listParticipantsUpdatedSince() {
+        var participant = createParticipant().updatedAt(NOW - GRACE_PERIOD).build();
+        when(participantStore.listParticipantsUpdatedSince(1000L, "did:web:previous", 10)).thenReturn(List.of(participant));
+
+        var result = service.listParticipantsUpdatedSince(1000L, "did:web:previous", 10);
+
+        assertThat(result).containsExactly(participant);
+    }
+
+    @Test
+    void listParticipantsUpdatedSince_leavesOutUpdatesWithinGracePeriod() {
+        var settled = createParticipant().did("did:web:settled").updatedAt(NOW - GRACE_PERIOD - 1).build();
+        var recent = createParticipant().did("did:web:recent").updatedAt(NOW - GRACE_PERIOD + 1).build();
+        when(participantStore.listParticipantsUpdatedSince(1000L, null, 10)).thenReturn(List.of(settled, recent));
+
+        var result = service.listParticipantsUpdatedSince(1000L, null, 10);
+
+        assertThat(result).containsExactly(settled);
+    }
+
+    @Test
+    void forEachParticipant() {
+        var participant = createParticipant().build();
+        var closed = new AtomicBoolean();
+        when(participantStore.streamParticipants()).thenReturn(Stream.of(participant).onClose(() -> closed.set(true)));
+        var consumed = new ArrayList<Participant>();
+
+        service.forEachParticipant(consumed::add);
+
+        assertThat(consumed).containsExactly(participant);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void forEachParticipant_consumerFails_closesStream() {
+        var closed = new AtomicBoolean();
+        when(participantStore.streamParticipants()).thenReturn(Stream.of(createParticipant().build()).onClose(() -> closed.set(true)));
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> service.forEachParticipant(participant -> {
+            throw new IllegalStateException("client gone");
+        }));
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void countParticipantsByStatus() {
+        when(participantStore.countByStatus()).thenReturn(Map.of(ONBOARDED, 3L));
+
+        assertThat(service.countParticipantsByStatus()).isEqualTo(Map.of(ONBOARDED, 3L));
+    }
+
     @Test
     void addParticipant() {
         var traceContext = getTraceContext();
         when(telemetryMock.getCurrentTraceContext()).thenReturn(traceContext);
+        when(participantStore.save(any())).thenAnswer(invocation -> StoreResult.success(invocation.getArgument(0)));
 
-        service.addParticipant(DID);
+        var result = service.addParticipant(DID);
+
+        assertThat(result.succeeded()).isTrue();
 
         var captor = ArgumentCaptor.forClass(Participant.class);
         verify(participantStore).save(captor.capture());
@@ -89,6 +173,18 @@ class RegistrationServiceImplTest {
                         .updatedAt(participant.getUpdatedAt())
                         .traceContext(traceContext)
                         .build());
+        verify(listener).participantAdded(participant);
+    }
+
+    @Test
+    void addParticipant_leased_fails() {
+        when(participantStore.save(any())).thenReturn(StoreResult.alreadyLeased("leased"));
+
+        var result = service.addParticipant(DID);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(ServiceFailure.Reason.CONFLICT);
+        verifyNoInteractions(listener);
     }
 
     @Test
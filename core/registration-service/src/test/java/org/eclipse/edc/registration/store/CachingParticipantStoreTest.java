@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.store;
+
+import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.store.spi.ParticipantStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registration.ParticipantUtils.createParticipant;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingParticipantStoreTest {
+
+    private static final Duration REVALIDATE_AFTER = Duration.ofSeconds(5);
+    private static final Duration EXPIRE_AFTER = Duration.ofMinutes(5);
+    private static final String DID = "did:web:participant";
+
+    private final ParticipantStore delegate = mock(ParticipantStore.class);
+    private final Clock clock = mock(Clock.class);
+    private CachingParticipantStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        store = new CachingParticipantStore(delegate, REVALIDATE_AFTER, EXPIRE_AFTER, 2, clock);
+    }
+
+    @Test
+    void findByDid_cachesParticipant() {
+        var participant = participant(1000L);
+        when(delegate.findByDid(DID)).thenReturn(participant);
+
+        assertThat(store.findByDid(DID)).usingRecursiveComparison().isEqualTo(participant);
+        assertThat(store.findByDid(DID)).usingRecursiveComparison().isEqualTo(participant);
+
+        verify(delegate, times(1)).findByDid(DID);
+        verify(delegate, never()).findUpdatedAt(any());
+    }
+
+    @Test
+    void findByDid_returnsCopies() {
+        when(delegate.findByDid(DID)).thenReturn(participant(1000L));
+
+        var first = store.findByDid(DID);
+        first.transitionOnboarded();
+
+        assertThat(store.findByDid(DID)).isNotSameAs(first).satisfies(p -> assertThat(p.getStatus()).isNotEqualTo(first.getStatus()));
+    }
+
+    @Test
+    void findByDid_cachesParticipantNotFound() {
+        when(delegate.findByDid(DID)).thenReturn(null);
+
+        assertThat(store.findByDid(DID)).isNull();
+        assertThat(store.findByDid(DID)).isNull();
+
+        verify(delegate, times(1)).findByDid(DID);
+    }
+
+    @Test
+    void findByDid_revalidatesUnchangedParticipant() {
+        var participant = participant(1000L);
+        when(delegate.findByDid(DID)).thenReturn(participant);
+        when(delegate.findUpdatedAt(DID)).thenReturn(1000L);
+        store.findByDid(DID);
+
+        when(clock.millis()).thenReturn(REVALIDATE_AFTER.toMillis());
+        assertThat(store.findByDid(DID)).usingRecursiveComparison().isEqualTo(participant);
+        // revalidated, so served from the cache again
+        when(clock.millis()).thenReturn(REVALIDATE_AFTER.toMillis() + 1);
+        store.findByDid(DID);
+
+        verify(delegate, times(1)).findByDid(DID);
+        verify(delegate, times(1)).findUpdatedAt(DID);
+    }
+
+    @Test
+    void findByDid_readsAgain_whenUpdatedInStore() {
+        var updated = participant(2000L);
+        when(delegate.findByDid(DID)).thenReturn(participant(1000L), updated);
+        when(delegate.findUpdatedAt(DID)).thenReturn(2000L);
+        store.findByDid(DID);
+
+        when(clock.millis()).thenReturn(REVALIDATE_AFTER.toMillis());
+
+        assertThat(store.findByDid(DID)).usingRecursiveComparison().isEqualTo(updated);
+        verify(delegate, times(2)).findByDid(DID);
+    }
+
+    @Test
+    void findByDid_readsAgain_whenExpired() {
+        when(delegate.findByDid(DID)).thenReturn(participant(1000L));
+        when(delegate.findUpdatedAt(DID)).thenReturn(1000L);
+        store.findByDid(DID);
+
+        when(clock.millis()).thenReturn(EXPIRE_AFTER.toMillis());
+        store.findByDid(DID);
+
+        verify(delegate, times(2)).findByDid(DID);
+        verify(delegate, never()).findUpdatedAt(DID);
+    }
+
+    @Test
+    void save_evictsParticipant() {
+        var participant = participant(1000L);
+        when(delegate.findByDid(DID)).thenReturn(participant);
+        store.findByDid(DID);
+
+        store.save(participant, "runtime-1");
+        store.findByDid(DID);
+
+        verify(delegate).save(participant, "runtime-1");
+        verify(delegate, times(2)).findByDid(DID);
+    }
+
+    @Test
+    void saveAll_evictsParticipants() {
+        var participant = participant(1000L);
+        when(delegate.findByDid(DID)).thenReturn(participant);
+        store.findByDid(DID);
+
+        store.saveAll(List.of(participant), "runtime-1");
+        store.findByDid(DID);
+
+        verify(delegate).saveAll(List.of(participant), "runtime-1");
+        verify(delegate, times(2)).findByDid(DID);
+    }
+
+    @Test
+    void findByDid_evictsLeastRecentlyUsed_whenFull() {
+        when(delegate.findByDid(any())).thenAnswer(i -> createParticipant().did(i.getArgument(0)).build());
+
+        store.findByDid("did:web:1");
+        store.findByDid("did:web:2");
+        store.findByDid("did:web:1");
+        store.findByDid("did:web:3");
+
+        store.findByDid("did:web:1");
+        store.findByDid("did:web:2");
+        verify(delegate, times(1)).findByDid("did:web:1");
+        verify(delegate, times(2)).findByDid("did:web:2");
+    }
+
+    private Participant participant(long updatedAt) {
+        return createParticipant().did(DID).updatedAt(updatedAt).build();
+    }
+}
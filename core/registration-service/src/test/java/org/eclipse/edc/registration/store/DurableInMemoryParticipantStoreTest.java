@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.registration.store.spi.ParticipantStore;
+import org.eclipse.edc.registration.store.spi.ParticipantStoreTestBase;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registration.ParticipantUtils.createParticipant;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZED;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZING;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class DurableInMemoryParticipantStoreTest extends ParticipantStoreTestBase {
+
+    private final Monitor monitor = mock(Monitor.class);
+    @TempDir
+    private Path directory;
+    private InMemoryParticipantStore store;
+
+    @BeforeEach
+    void setup() {
+        store = open(ParticipantLog.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void restart_loadsSavedParticipants() {
+        var participant = createParticipant().status(AUTHORIZING).build();
+        store.save(participant);
+        participant.transitionAuthorized();
+        store.save(participant);
+        store.save(createParticipant().did("did:web:other").build());
+
+        var reopened = reopen(ParticipantLog.DEFAULT_COMPACTION_THRESHOLD);
+
+        assertThat(reopened.listParticipants()).hasSize(2);
+        assertThat(reopened.findByDid(participant.getDid())).usingRecursiveComparison().isEqualTo(participant);
+        assertThat(reopened.listParticipantsWithStatus(AUTHORIZING)).isEmpty();
+        assertThat(reopened.listParticipantsWithStatus(AUTHORIZED)).hasSize(1);
+    }
+
+    @Test
+    void restart_ignoresChangesNotSaved() {
+        var participant = createParticipant().status(AUTHORIZING).build();
+        store.save(participant);
+        participant.transitionAuthorized();
+
+        var reopened = reopen(ParticipantLog.DEFAULT_COMPACTION_THRESHOLD);
+
+        assertThat(reopened.findByDid(participant.getDid()).getStatus()).isEqualTo(AUTHORIZING);
+    }
+
+    @Test
+    void restart_discardsIncompleteRecord() throws IOException {
+        var participant = createParticipant().build();
+        store.save(participant);
+        store.close();
+        var segment = segments().get(0);
+        var size = Files.size(segment);
+        // a record interrupted after its header
+        Files.write(segment, new byte[]{ 0, 0, 1, 0, 1, 2, 3, 4, 5 }, StandardOpenOption.APPEND);
+
+        store = open(ParticipantLog.DEFAULT_COMPACTION_THRESHOLD);
+
+        assertThat(store.listParticipants()).hasSize(1);
+        assertThat(Files.size(segment)).isEqualTo(size);
+        verify(monitor).warning(anyString());
+        store.save(createParticipant().did("did:web:other").build());
+        assertThat(reopen(ParticipantLog.DEFAULT_COMPACTION_THRESHOLD).listParticipants()).hasSize(2);
+    }
+
+    @Test
+    void save_compactsLog_whenBeyondThreshold() throws IOException {
+        store.close();
+        store = open(1);
+        var participant = createParticipant().status(AUTHORIZING).build();
+        store.save(participant);
+        participant.transitionAuthorized();
+        store.save(participant);
+
+        // waits for the compaction to complete
+        store.close();
+
+        assertThat(snapshots()).hasSize(1);
+        assertThat(segments()).hasSize(1);
+        store = open(ParticipantLog.DEFAULT_COMPACTION_THRESHOLD);
+        assertThat(store.findByDid(participant.getDid())).usingRecursiveComparison().isEqualTo(participant);
+    }
+
+    @Test
+    void save_concurrently_isDurable() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 200).forEach(i -> executor.execute(() -> store.save(createParticipant().did("did:web:" + i).build())));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(reopen(ParticipantLog.DEFAULT_COMPACTION_THRESHOLD).listParticipants()).hasSize(200);
+    }
+
+    @Override
+    protected ParticipantStore getStore() {
+        return store;
+    }
+
+    private InMemoryParticipantStore reopen(long compactionThreshold) {
+        store.close();
+        store = open(compactionThreshold);
+        return store;
+    }
+
+    private InMemoryParticipantStore open(long compactionThreshold) {
+        return new InMemoryParticipantStore(Clock.systemUTC(), new ParticipantLog(directory, new ObjectMapper(), compactionThreshold, monitor));
+    }
+
+    private List<Path> segments() throws IOException {
+        return files("segment-");
+    }
+
+    private List<Path> snapshots() throws IOException {
+        return files("snapshot-");
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+}
@@ -17,6 +17,14 @@ package org.eclipse.edc.registration.store;
 import org.eclipse.edc.registration.store.spi.ParticipantStore;
 import org.eclipse.edc.registration.store.spi.ParticipantStoreTestBase;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registration.ParticipantUtils.createParticipant;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZED;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZING;
 
 
 class InMemoryParticipantStoreTest extends ParticipantStoreTestBase {
@@ -27,7 +35,30 @@ class InMemoryParticipantStoreTest extends ParticipantStoreTestBase {
     void setup() {
         store = new InMemoryParticipantStore();
     }
-    
+
+    @Test
+    void listParticipantsWithStatus_movesParticipantToNewStatusOnSave() {
+        var participant = createParticipant().status(AUTHORIZING).build();
+        store.save(participant);
+
+        participant.transitionAuthorized();
+        store.save(participant);
+
+        assertThat(store.listParticipantsWithStatus(AUTHORIZING)).isEmpty();
+        assertThat(store.listParticipantsWithStatus(AUTHORIZED)).containsExactly(participant);
+    }
+
+    @Test
+    void listParticipantsWithStatus_leavesOutParticipantNotInStatusAnymore() {
+        var participant = createParticipant().status(AUTHORIZING).build();
+        store.save(participant);
+
+        participant.transitionDenied();
+
+        assertThat(store.listParticipantsWithStatus(AUTHORIZING)).isEmpty();
+        assertThat(store.claimParticipantsWithStatus(AUTHORIZING, 10, "test", Duration.ofMinutes(1))).isEmpty();
+    }
+
     @Override
     protected ParticipantStore getStore() {
         return store;
@@ -8,6 +8,7 @@ dependencies {
 
     implementation(libs.edc.core.api)
     implementation(libs.edc.ext.http)
+    implementation(libs.edc.ext.identity.did.core)
     implementation(libs.edc.ext.identity.did.crypto)
 
     testImplementation(testFixtures(project(":spi:registration-service-spi")))
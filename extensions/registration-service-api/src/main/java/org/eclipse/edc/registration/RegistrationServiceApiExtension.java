@@ -14,9 +14,11 @@
 
 package org.eclipse.edc.registration;
 
-import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.registration.api.RegistrationServiceApiController;
 import org.eclipse.edc.registration.auth.DidJwtAuthenticationFilter;
+import org.eclipse.edc.registration.auth.PublicKeyCache;
+import org.eclipse.edc.registration.auth.VerifiedTokenCache;
+import org.eclipse.edc.registration.spi.did.CachingDidResolverRegistry;
 import org.eclipse.edc.registration.spi.registration.RegistrationService;
 import org.eclipse.edc.registration.transform.ParticipantToParticipantDtoTransformer;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -25,11 +27,17 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.jersey.mapper.EdcApiExceptionMapper;
 import org.eclipse.edc.web.spi.WebService;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.lang.String.format;
 
@@ -43,8 +51,23 @@ public class RegistrationServiceApiExtension implements ServiceExtension {
     @Setting
     private static final String JWT_AUDIENCE_SETTING = "jwt.audience";
 
+    @Setting(value = "Whether tokens already verified are accepted until their expiration without verifying them again", type = "boolean")
+    private static final String TOKEN_CACHE_ENABLED_SETTING = "edc.registration.api.token-cache.enabled";
+
+    @Setting(value = "Maximum number of verified tokens cached, the least recently used one is evicted beyond that", type = "int")
+    private static final String TOKEN_CACHE_MAX_SIZE_SETTING = "edc.registration.api.token-cache.max-size";
+
+    @Setting(value = "Duration in milliseconds after which a cached public key of a caller is refreshed in the background", type = "long")
+    private static final String KEY_CACHE_REFRESH_AFTER_SETTING = "edc.registration.api.key-cache.refresh-after";
+
+    @Setting(value = "Duration in milliseconds after which a cached public key of a caller that could not be refreshed is not used anymore", type = "long")
+    private static final String KEY_CACHE_EXPIRE_AFTER_SETTING = "edc.registration.api.key-cache.expire-after";
+
+    @Setting(value = "Maximum number of public keys of callers cached, the least recently used one is evicted beyond that", type = "int")
+    private static final String KEY_CACHE_MAX_SIZE_SETTING = "edc.registration.api.key-cache.max-size";
+
     @Inject
-    private DidPublicKeyResolver didPublicKeyResolver;
+    private CachingDidResolverRegistry didResolverRegistry;
 
     @Inject
     private Monitor monitor;
@@ -58,6 +81,11 @@ public class RegistrationServiceApiExtension implements ServiceExtension {
     @Inject
     private RegistrationService registrationService;
 
+    @Inject
+    private TypeManager typeManager;
+
+    private ExecutorService keyRefreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -67,12 +95,41 @@ public class RegistrationServiceApiExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var audience = Objects.requireNonNull(context.getSetting(JWT_AUDIENCE_SETTING, null),
                 () -> format("Missing setting %s", JWT_AUDIENCE_SETTING));
-        var authenticationService = new DidJwtAuthenticationFilter(monitor, didPublicKeyResolver, audience);
+        var authenticationService = new DidJwtAuthenticationFilter(monitor, publicKeyCache(context), audience, tokenCache(context));
 
         transformerRegistry.register(new ParticipantToParticipantDtoTransformer());
 
-        webService.registerResource(CONTEXT_ALIAS, new RegistrationServiceApiController(registrationService, transformerRegistry));
+        webService.registerResource(CONTEXT_ALIAS, new RegistrationServiceApiController(registrationService, transformerRegistry, typeManager.getMapper()));
         webService.registerResource(CONTEXT_ALIAS, authenticationService);
         webService.registerResource(CONTEXT_ALIAS, new EdcApiExceptionMapper());
     }
+
+    @Override
+    public void shutdown() {
+        if (keyRefreshExecutor != null) {
+            keyRefreshExecutor.shutdownNow();
+        }
+    }
+
+    private PublicKeyCache publicKeyCache(ServiceExtensionContext context) {
+        keyRefreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "registration-service-key-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // the keys of callers are resolved through the DID cache shared with the onboarding of participants
+        return new PublicKeyCache(didResolverRegistry, keyRefreshExecutor, monitor,
+                Duration.ofMillis(context.getSetting(KEY_CACHE_REFRESH_AFTER_SETTING, PublicKeyCache.DEFAULT_REFRESH_AFTER.toMillis())),
+                Duration.ofMillis(context.getSetting(KEY_CACHE_EXPIRE_AFTER_SETTING, PublicKeyCache.DEFAULT_EXPIRE_AFTER.toMillis())),
+                context.getSetting(KEY_CACHE_MAX_SIZE_SETTING, PublicKeyCache.DEFAULT_MAX_SIZE),
+                Clock.systemUTC());
+    }
+
+    @Nullable
+    private VerifiedTokenCache tokenCache(ServiceExtensionContext context) {
+        if (!context.getSetting(TOKEN_CACHE_ENABLED_SETTING, true)) {
+            return null;
+        }
+        return new VerifiedTokenCache(context.getSetting(TOKEN_CACHE_MAX_SIZE_SETTING, VerifiedTokenCache.DEFAULT_MAX_SIZE), Clock.systemUTC());
+    }
 }
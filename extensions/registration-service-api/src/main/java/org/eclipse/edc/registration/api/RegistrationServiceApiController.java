@@ -14,7 +14,10 @@
 
 package org.eclipse.edc.registration.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -26,17 +29,27 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.registration.model.ParticipantDto;
+import org.eclipse.edc.registration.model.ParticipantStatsDto;
+import org.eclipse.edc.registration.model.ParticipantStatusDto;
 import org.eclipse.edc.registration.spi.model.Participant;
 import org.eclipse.edc.registration.spi.registration.RegistrationService;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+import org.eclipse.edc.web.spi.exception.ObjectConflictException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -54,8 +67,19 @@ import static org.eclipse.edc.registration.auth.DidJwtAuthenticationFilter.CALLE
 @Path("/registry")
 public class RegistrationServiceApiController {
 
+    /**
+     * Response header holding the cursor of the next page of participants, absent on the last page.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    /**
+     * Response header holding the update time to list the next changes from, along with {@link #NEXT_CURSOR_HEADER}.
+     */
+    public static final String NEXT_UPDATED_SINCE_HEADER = "X-Next-Updated-Since";
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final RegistrationService service;
     private final TypeTransformerRegistry transformerRegistry;
+    private final ObjectMapper objectMapper;
 
     /**
      * Constructs an instance of {@link RegistrationServiceApiController}
@@ -64,8 +88,20 @@ public class RegistrationServiceApiController {
      * @param transformerRegistry dto transformer registry
      */
     public RegistrationServiceApiController(RegistrationService service, TypeTransformerRegistry transformerRegistry) {
+        this(service, transformerRegistry, new ObjectMapper());
+    }
+
+    /**
+     * Constructs an instance of {@link RegistrationServiceApiController}
+     *
+     * @param service             service handling the registration service logic.
+     * @param transformerRegistry dto transformer registry
+     * @param objectMapper        mapper writing the participants streamed in responses.
+     */
+    public RegistrationServiceApiController(RegistrationService service, TypeTransformerRegistry transformerRegistry, ObjectMapper objectMapper) {
         this.service = service;
         this.transformerRegistry = transformerRegistry;
+        this.objectMapper = objectMapper;
     }
 
     @GET
@@ -101,34 +137,151 @@ public class RegistrationServiceApiController {
 
     @Path("/participants")
     @GET
-    @Operation(description = "Gets all dataspace participants.")
+    @Operation(description = "Gets dataspace participants ordered by DID, all of them unless a limit or a cursor is given, " +
+            "in which case a page of up to the limit or " + MAX_PAGE_SIZE + " participants is returned. " +
+            "Given updatedSince, gets the participants updated since then instead, oldest update first, " +
+            "up to the limit or " + MAX_PAGE_SIZE + " participants. Participants updated within the last seconds, as " +
+            "configured by the grace period of the change feed, are only listed once the grace period has elapsed, so that " +
+            "updates saved late are not missed.")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Dataspace participants.",
+                    headers = {
+                            @Header(
+                                    name = NEXT_CURSOR_HEADER,
+                                    description = "Value of the after parameter for the next page, absent on the last page. " +
+                                            "Given updatedSince, present whenever participants are returned.",
+                                    schema = @Schema(type = "string")
+                            ),
+                            @Header(
+                                    name = NEXT_UPDATED_SINCE_HEADER,
+                                    description = "Given updatedSince, value of the updatedSince parameter for the next changes, present whenever participants are returned.",
+                                    schema = @Schema(type = "integer", format = "int64")
+                            )
+                    },
                     content = {
                             @Content(
                                     mediaType = "application/json",
                                     array = @ArraySchema(schema = @Schema(implementation = ParticipantDto.class))
                             )
                     }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid page size."
             )
     })
-    public List<ParticipantDto> listParticipants() {
-        return service.listParticipants().stream()
-                .map(participant -> transformerRegistry.transform(participant, ParticipantDto.class))
-                .filter(Result::succeeded)
-                .map(Result::getContent)
-                .collect(Collectors.toList());
+    public Response listParticipants(@Parameter(description = "Maximum number of participants to return, up to " + MAX_PAGE_SIZE) @QueryParam("limit") Integer limit,
+                                     @Parameter(description = "Cursor returned with the previous page") @QueryParam("after") String after,
+                                     @Parameter(description = "Update time in epoch milliseconds from which changed participants are listed") @QueryParam("updatedSince") Long updatedSince) {
+        if (updatedSince != null) {
+            return listChanges(updatedSince, after, limit == null ? MAX_PAGE_SIZE : validLimit(limit));
+        }
+        if (limit == null && after == null) {
+            return Response.ok(streamParticipants(), MediaType.APPLICATION_JSON).build();
+        }
+        // a cursor without limit reads the next page at the maximum size, rather than all the participants
+        var pageSize = limit == null ? MAX_PAGE_SIZE : validLimit(limit);
+
+        // fetch one participant more to know whether there is a next page
+        var participants = service.listParticipants(pageSize + 1, after);
+        if (participants.size() <= pageSize) {
+            return Response.ok(toDtos(participants)).build();
+        }
+        var page = participants.subList(0, pageSize);
+        return Response.ok(toDtos(page))
+                .header(NEXT_CURSOR_HEADER, page.get(pageSize - 1).getDid())
+                .build();
+    }
+
+    @Path("/participants/stats")
+    @GET
+    @Operation(description = "Gets the number of dataspace participants, in total and per onboarding status.")
+    @ApiResponse(
+            responseCode = "200",
+            description = "Number of dataspace participants.",
+            content = {
+                    @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ParticipantStatsDto.class)
+                    )
+            }
+    )
+    public ParticipantStatsDto getParticipantStats() {
+        var stats = ParticipantStatsDto.Builder.newInstance();
+        service.countParticipantsByStatus().forEach((status, count) -> stats.add(ParticipantStatusDto.from(status), count));
+        return stats.build();
     }
 
     @Path("/participant")
     @POST
     @Operation(description = "Asynchronously request to add a dataspace participant.")
-    @ApiResponse(responseCode = "204", description = "No content")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "No content"),
+            @ApiResponse(responseCode = "409", description = "Dataspace participant being processed, it could not be added.")
+    })
     public void addParticipant(@Context HttpHeaders headers) {
         var issuer = Objects.requireNonNull(headers.getHeaderString(CALLER_DID_HEADER));
 
-        service.addParticipant(issuer);
+        var result = service.addParticipant(issuer);
+        if (result.failed()) {
+            throw new ObjectConflictException(result.getFailureMessages());
+        }
+    }
+
+    /**
+     * Lists the participants updated since the given time, returning the position after the last one as the point to
+     * resume from. Fewer participants than the limit means there were no more changes.
+     */
+    private Response listChanges(long updatedSince, @Nullable String after, int limit) {
+        var participants = service.listParticipantsUpdatedSince(updatedSince, after, limit);
+        var response = Response.ok(toDtos(participants));
+        if (!participants.isEmpty()) {
+            var last = participants.get(participants.size() - 1);
+            response.header(NEXT_UPDATED_SINCE_HEADER, String.valueOf(last.getUpdatedAt()))
+                    .header(NEXT_CURSOR_HEADER, last.getDid());
+        }
+        return response.build();
+    }
+
+    private static int validLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException(String.format("limit must be between 1 and %s", MAX_PAGE_SIZE));
+        }
+        return limit;
+    }
+
+    /**
+     * Writes the participants to the response as they are read from the store, so that they are never all held in memory.
+     * The whole response is written within the service call, which holds the cursor on the store until it returns.
+     */
+    private StreamingOutput streamParticipants() {
+        return output -> {
+            try (var generator = objectMapper.getFactory().createGenerator(output)) {
+                generator.writeStartArray();
+                service.forEachParticipant(participant -> {
+                    var dto = transformerRegistry.transform(participant, ParticipantDto.class);
+                    if (dto.succeeded()) {
+                        try {
+                            generator.writeObject(dto.getContent());
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                });
+                generator.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private List<ParticipantDto> toDtos(List<Participant> participants) {
+        return participants.stream()
+                .map(participant -> transformerRegistry.transform(participant, ParticipantDto.class))
+                .filter(Result::succeeded)
+                .map(Result::getContent)
+                .collect(Collectors.toList());
     }
 }
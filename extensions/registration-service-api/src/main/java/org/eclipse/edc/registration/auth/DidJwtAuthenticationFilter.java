@@ -15,19 +15,33 @@
 package org.eclipse.edc.registration.auth;
 
 
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.BadJWTException;
+import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.core.MultivaluedMap;
-import org.eclipse.edc.iam.did.crypto.JwtUtils;
+import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.spi.exception.AuthenticationFailedException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.text.ParseException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static com.nimbusds.jwt.JWTClaimNames.EXPIRATION_TIME;
+import static com.nimbusds.jwt.JWTClaimNames.ISSUER;
+import static com.nimbusds.jwt.JWTClaimNames.SUBJECT;
 
 /**
  * Intercepts all requests sent to this resource and authenticates them using DID Web.
@@ -38,13 +52,39 @@ public class DidJwtAuthenticationFilter implements ContainerRequestFilter {
     public static final String CALLER_DID_HEADER = "CallerDid";
 
     private final Monitor monitor;
-    private final DidPublicKeyResolver didPublicKeyResolver;
-    private final String audience;
+    private final BiFunction<String, String, Result<JWSVerifier>> verifierResolver;
+    private final DefaultJWTClaimsVerifier<SecurityContext> claimsVerifier;
+    private final VerifiedTokenCache tokenCache;
 
     public DidJwtAuthenticationFilter(Monitor monitor, DidPublicKeyResolver didPublicKeyResolver, String audience) {
+        this(monitor, didPublicKeyResolver, audience, null);
+    }
+
+    /**
+     * Creates a filter remembering the tokens it verified, so that a client sending the same token again is
+     * authenticated without verifying its signature again.
+     *
+     * @param tokenCache cache of the verified tokens, null to verify every request.
+     */
+    public DidJwtAuthenticationFilter(Monitor monitor, DidPublicKeyResolver didPublicKeyResolver, String audience, @Nullable VerifiedTokenCache tokenCache) {
+        this(monitor, (issuer, kid) -> didPublicKeyResolver.resolvePublicKey(issuer + "#" + kid).map(PublicKeyWrapper::verifier), audience, tokenCache);
+    }
+
+    /**
+     * Creates a filter obtaining the public keys of the callers from the given cache.
+     *
+     * @param tokenCache cache of the verified tokens, null to verify every request.
+     */
+    public DidJwtAuthenticationFilter(Monitor monitor, PublicKeyCache publicKeyCache, String audience, @Nullable VerifiedTokenCache tokenCache) {
+        this(monitor, publicKeyCache::getVerifier, audience, tokenCache);
+    }
+
+    private DidJwtAuthenticationFilter(Monitor monitor, BiFunction<String, String, Result<JWSVerifier>> verifierResolver, String audience, @Nullable VerifiedTokenCache tokenCache) {
         this.monitor = monitor;
-        this.didPublicKeyResolver = didPublicKeyResolver;
-        this.audience = audience;
+        this.verifierResolver = verifierResolver;
+        // the token must be issued for this audience only, by its subject
+        this.claimsVerifier = new DefaultJWTClaimsVerifier<>(new JWTClaimsSet.Builder().audience(audience).build(), Set.of(ISSUER, SUBJECT, EXPIRATION_TIME));
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -53,14 +93,28 @@ public class DidJwtAuthenticationFilter implements ContainerRequestFilter {
         Objects.requireNonNull(headers, "headers");
 
         var credential = getCredential(headers);
+        var issuer = tokenCache != null ? tokenCache.getIssuer(credential) : null;
+        if (issuer == null) {
+            issuer = verify(credential);
+        }
+
+        headers.putSingle(CALLER_DID_HEADER, issuer);
+    }
+
+    private String verify(String credential) {
         var jwt = parseJsonWebToken(credential);
-        var issuer = getIssuerClaim(jwt);
+        var claims = getClaims(jwt);
+        var issuer = claims.getIssuer();
         var kid = jwt.getHeader().getKeyID();
         verifyTokenSignature(jwt, issuer, kid);
 
         monitor.debug("Valid JWT");
 
-        headers.putSingle(CALLER_DID_HEADER, issuer);
+        // a token without expiration is verified on each request, as its cache entry would never expire
+        if (tokenCache != null && claims.getExpirationTime() != null) {
+            tokenCache.put(credential, issuer, claims.getExpirationTime().getTime());
+        }
+        return issuer;
     }
 
 
@@ -73,9 +127,9 @@ public class DidJwtAuthenticationFilter implements ContainerRequestFilter {
         }
     }
 
-    private String getIssuerClaim(SignedJWT jwt) {
+    private JWTClaimsSet getClaims(SignedJWT jwt) {
         try {
-            return jwt.getJWTClaimsSet().getIssuer();
+            return jwt.getJWTClaimsSet();
         } catch (ParseException e) {
             throw authenticationFailure("Invalid JWT (parse error)", List.of(e.getMessage()));
         }
@@ -97,17 +151,25 @@ public class DidJwtAuthenticationFilter implements ContainerRequestFilter {
     }
 
     private void verifyTokenSignature(SignedJWT jwt, String issuer, String kid) {
-        var publicKey = didPublicKeyResolver.resolvePublicKey(issuer + "#" + kid);
+        var verifier = verifierResolver.apply(issuer, kid);
 
-        if (publicKey.failed()) {
-            throw authenticationFailure("Failed obtaining public key for DID: " + issuer, publicKey.getFailureMessages());
+        if (verifier.failed()) {
+            throw authenticationFailure("Failed obtaining public key for DID: " + issuer, verifier.getFailureMessages());
         }
 
-        var verificationResult = JwtUtils.verify(jwt, publicKey.getContent(), audience);
-        if (verificationResult.failed()) {
-            throw authenticationFailure("Invalid JWT (verification error)", verificationResult.getFailureMessages());
+        try {
+            if (!jwt.verify(verifier.getContent())) {
+                throw authenticationFailure("Invalid JWT (verification error)", List.of("Invalid signature"));
+            }
+        } catch (JOSEException e) {
+            throw authenticationFailure("Invalid JWT (verification error)", List.of("Unable to verify JWT token. " + e.getMessage()));
         }
 
+        try {
+            claimsVerifier.verify(jwt.getJWTClaimsSet(), null);
+        } catch (BadJWTException | ParseException e) {
+            throw authenticationFailure("Invalid JWT (verification error)", List.of("Claim verification failed. " + e.getMessage()));
+        }
     }
 
     @NotNull
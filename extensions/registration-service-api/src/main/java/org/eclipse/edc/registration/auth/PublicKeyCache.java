@@ -0,0 +1,240 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.auth;
+
+import com.nimbusds.jose.JWSVerifier;
+import org.eclipse.edc.iam.did.resolution.DidPublicKeyResolverImpl;
+import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
+import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
+import org.eclipse.edc.registration.spi.did.CachingDidResolverRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+
+/**
+ * Cache of the verifiers for the public keys of the callers of the API, keyed by DID URL ({@code issuer#kid}).
+ * <p>
+ * A key is resolved on the request path only the first time it is used. Once an entry is older than
+ * {@code refreshAfter}, it is still used while it is resolved again in the background, so that a slow DID host does
+ * not delay requests. An entry that could not be refreshed within {@code expireAfter} is not used anymore.
+ * <p>
+ * A key id not seen before for a known issuer signals a key rotation: the DID document of the issuer is resolved
+ * again, bypassing the DID resolution cache, and the entries of the previous keys are dropped once the new key is
+ * resolved. To keep tokens with made-up key ids from causing a DID resolution on each request, the DID document of an
+ * issuer is resolved again at most once per {@link #MIN_ROTATION_INTERVAL}, whether the previous attempt succeeded or
+ * not.
+ */
+public class PublicKeyCache {
+
+    public static final Duration DEFAULT_REFRESH_AFTER = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_EXPIRE_AFTER = Duration.ofHours(1);
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    public static final Duration MIN_ROTATION_INTERVAL = Duration.ofSeconds(30);
+
+    private final DidPublicKeyResolver resolver;
+    private final Consumer<String> didInvalidator;
+    private final Executor refreshExecutor;
+    private final Monitor monitor;
+    private final Clock clock;
+    private final long refreshAfterMillis;
+    private final long expireAfterMillis;
+    private final Map<String, Entry> entries;
+    // time of the last rotation attempt per issuer, guarded by the lock on entries
+    private final Map<String, Long> rotationAttempts;
+
+    /**
+     * Creates the cache resolving the public keys through the given DID resolution cache, in which the DID document of
+     * an issuer is invalidated on key rotation.
+     *
+     * @param didResolverRegistry resolves and caches the DID documents holding the public keys.
+     * @param refreshExecutor runs the background refreshes.
+     */
+    public PublicKeyCache(CachingDidResolverRegistry didResolverRegistry, Executor refreshExecutor, Monitor monitor,
+                          Duration refreshAfter, Duration expireAfter, int maxSize, Clock clock) {
+        this(new DidPublicKeyResolverImpl(didResolverRegistry), didResolverRegistry::invalidate, refreshExecutor, monitor,
+                refreshAfter, expireAfter, maxSize, clock);
+    }
+
+    /**
+     * Creates the cache.
+     *
+     * @param resolver resolves the public keys.
+     * @param didInvalidator evicts the DID document of an issuer from the DID resolution cache, if any.
+     * @param refreshExecutor runs the background refreshes.
+     */
+    public PublicKeyCache(DidPublicKeyResolver resolver, Consumer<String> didInvalidator, Executor refreshExecutor, Monitor monitor,
+                          Duration refreshAfter, Duration expireAfter, int maxSize, Clock clock) {
+        if (refreshAfter.isNegative() || expireAfter.compareTo(refreshAfter) < 0) {
+            throw new IllegalArgumentException(format("Invalid public key cache durations: refresh after %s, expire after %s", refreshAfter, expireAfter));
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(format("Invalid public key cache size %s, must be positive", maxSize));
+        }
+        this.resolver = resolver;
+        this.didInvalidator = didInvalidator;
+        this.refreshExecutor = refreshExecutor;
+        this.monitor = monitor;
+        this.clock = clock;
+        this.refreshAfterMillis = refreshAfter.toMillis();
+        this.expireAfterMillis = expireAfter.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.rotationAttempts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the verifier for the given key.
+     *
+     * @param issuer the DID of the caller.
+     * @param kid the id of the key within the DID document of the caller.
+     */
+    public Result<JWSVerifier> getVerifier(String issuer, String kid) {
+        var didUrl = issuer + "#" + kid;
+        var now = clock.millis();
+        Entry entry;
+        boolean rotation;
+        synchronized (entries) {
+            entry = entries.get(didUrl);
+            rotation = entry == null && isRotationAllowed(issuer, now);
+            if (rotation) {
+                // recorded before resolving, so that concurrent and failed attempts count as well
+                rotationAttempts.put(issuer, now);
+            }
+        }
+
+        if (entry != null && now < entry.resolvedAt() + expireAfterMillis) {
+            if (now >= entry.resolvedAt() + refreshAfterMillis) {
+                refreshInBackground(didUrl, entry);
+            }
+            return Result.success(entry.verifier());
+        }
+
+        if (rotation) {
+            didInvalidator.accept(issuer);
+        }
+        var result = resolve(didUrl);
+        if (result.succeeded()) {
+            synchronized (entries) {
+                if (rotation) {
+                    entries.keySet().removeIf(key -> key.startsWith(issuer + "#"));
+                }
+                entries.put(didUrl, new Entry(issuer, result.getContent(), now));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A rotation is assumed if the issuer has keys cached, none of which was resolved recently, and no rotation was
+     * attempted recently for it.
+     */
+    private boolean isRotationAllowed(String issuer, long now) {
+        var lastAttempt = rotationAttempts.get(issuer);
+        if (lastAttempt != null && now - lastAttempt < MIN_ROTATION_INTERVAL.toMillis()) {
+            return false;
+        }
+        var known = false;
+        for (var entry : entries.values()) {
+            if (entry.issuer().equals(issuer)) {
+                if (now - entry.resolvedAt() < MIN_ROTATION_INTERVAL.toMillis()) {
+                    return false;
+                }
+                known = true;
+            }
+        }
+        return known;
+    }
+
+    private void refreshInBackground(String didUrl, Entry stale) {
+        if (!stale.startRefresh()) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                var result = resolve(didUrl);
+                if (result.succeeded()) {
+                    synchronized (entries) {
+                        // replace the stale entry only, it could have been dropped by a key rotation meanwhile
+                        entries.replace(didUrl, stale, new Entry(stale.issuer(), result.getContent(), clock.millis()));
+                    }
+                } else {
+                    stale.refreshFailed();
+                    monitor.warning(format("Failed refreshing public key %s, using the cached one: %s", didUrl, result.getFailureDetail()));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stale.refreshFailed();
+        }
+    }
+
+    private Result<JWSVerifier> resolve(String didUrl) {
+        return resolver.resolvePublicKey(didUrl).map(PublicKeyWrapper::verifier);
+    }
+
+    private static final class Entry {
+        private final String issuer;
+        private final JWSVerifier verifier;
+        private final long resolvedAt;
+        private boolean refreshing;
+
+        private Entry(String issuer, JWSVerifier verifier, long resolvedAt) {
+            this.issuer = issuer;
+            this.verifier = verifier;
+            this.resolvedAt = resolvedAt;
+        }
+
+        String issuer() {
+            return issuer;
+        }
+
+        JWSVerifier verifier() {
+            return verifier;
+        }
+
+        long resolvedAt() {
+            return resolvedAt;
+        }
+
+        synchronized boolean startRefresh() {
+            if (refreshing) {
+                return false;
+            }
+            refreshing = true;
+            return true;
+        }
+
+        synchronized void refreshFailed() {
+            refreshing = false;
+        }
+    }
+}
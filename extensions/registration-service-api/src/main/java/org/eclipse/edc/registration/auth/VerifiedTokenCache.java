@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.auth;
+
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded cache of the bearer tokens already verified by the {@link DidJwtAuthenticationFilter}, mapping the digest of
+ * a token to the DID of its issuer.
+ * <p>
+ * An entry expires with the token it was created for, so a token is never accepted past its expiration. Once the cache
+ * holds {@code maxSize} tokens, the least recently used one is evicted.
+ */
+public class VerifiedTokenCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    public VerifiedTokenCache(int maxSize, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(format("Invalid token cache size %s, must be positive", maxSize));
+        }
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the issuer of the given token if it was verified and did not expire yet.
+     *
+     * @param token the serialized token.
+     * @return the DID of the issuer, or null if the token must be verified.
+     */
+    @Nullable
+    public String getIssuer(String token) {
+        var key = digest(token);
+        var now = clock.millis();
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiration() <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.issuer();
+        }
+    }
+
+    /**
+     * Stores a verified token until its expiration.
+     *
+     * @param token the serialized token.
+     * @param issuer the DID of the issuer of the token.
+     * @param expiration the expiration of the token, in milliseconds since the epoch.
+     */
+    public void put(String token, String issuer, long expiration) {
+        if (expiration <= clock.millis()) {
+            return;
+        }
+        var key = digest(token);
+        synchronized (entries) {
+            entries.put(key, new Entry(issuer, expiration));
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Entry(String issuer, long expiration) {
+    }
+}
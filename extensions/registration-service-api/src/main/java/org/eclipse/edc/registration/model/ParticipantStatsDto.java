@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Schema(description = "Number of dataspace participants, in total and per onboarding status")
+public class ParticipantStatsDto {
+    private long total;
+    private Map<ParticipantStatusDto, Long> byStatus;
+
+    private ParticipantStatsDto() {
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<ParticipantStatusDto, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public static class Builder {
+        private final ParticipantStatsDto participantStatsDto;
+        private final Map<ParticipantStatusDto, Long> byStatus = new EnumMap<>(ParticipantStatusDto.class);
+
+        private Builder() {
+            participantStatsDto = new ParticipantStatsDto();
+            for (var status : ParticipantStatusDto.values()) {
+                byStatus.put(status, 0L);
+            }
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Adds a number of participants in the given status, several internal statuses mapping to the same one.
+         */
+        public Builder add(ParticipantStatusDto status, long count) {
+            Objects.requireNonNull(status, "status");
+            byStatus.merge(status, count, Long::sum);
+            participantStatsDto.total += count;
+            return this;
+        }
+
+        public ParticipantStatsDto build() {
+            participantStatsDto.byStatus = byStatus;
+            return participantStatsDto;
+        }
+    }
+}
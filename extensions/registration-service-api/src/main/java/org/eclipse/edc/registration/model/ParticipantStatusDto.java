@@ -15,6 +15,7 @@
 package org.eclipse.edc.registration.model;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.eclipse.edc.registration.spi.model.ParticipantStatus;
 
 /**
  * Participant onboarding status. Some internal statuses are mapping to more general statuses, to avoid leaking details about the registration process.
@@ -23,5 +24,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 public enum ParticipantStatusDto {
     ONBOARDING_IN_PROGRESS, // participant onboarding in progress
     ONBOARDED, // participant is fully onboarded
-    DENIED, // participant onboarding request denied
+    DENIED; // participant onboarding request denied
+
+    /**
+     * Maps the internal status of a participant to the one exposed.
+     *
+     * @param status {@link ParticipantStatus}
+     * @return {@link ParticipantStatusDto}
+     */
+    public static ParticipantStatusDto from(ParticipantStatus status) {
+        return switch (status) {
+            case ONBOARDING_INITIATED, AUTHORIZING, AUTHORIZED -> ONBOARDING_IN_PROGRESS;
+            case ONBOARDED -> ONBOARDED;
+            case DENIED, FAILED -> DENIED;
+        };
+    }
 }
@@ -52,10 +52,6 @@ public class ParticipantToParticipantDtoTransformer implements TypeTransformer<P
      * @return {@link ParticipantStatusDto}
      */
     private ParticipantStatusDto mapToDtoStatus(ParticipantStatus status) {
-        return switch (status) {
-            case ONBOARDING_INITIATED, AUTHORIZING, AUTHORIZED -> ParticipantStatusDto.ONBOARDING_IN_PROGRESS;
-            case ONBOARDED -> ParticipantStatusDto.ONBOARDED;
-            case DENIED, FAILED -> ParticipantStatusDto.DENIED;
-        };
+        return ParticipantStatusDto.from(status);
     }
 }
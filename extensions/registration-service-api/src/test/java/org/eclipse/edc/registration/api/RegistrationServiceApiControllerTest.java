@@ -14,23 +14,48 @@
 
 package org.eclipse.edc.registration.api;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.registration.model.ParticipantDto;
+import org.eclipse.edc.registration.model.ParticipantStatusDto;
+import org.eclipse.edc.registration.spi.model.Participant;
 import org.eclipse.edc.registration.spi.registration.RegistrationService;
+import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+import org.eclipse.edc.web.spi.exception.ObjectConflictException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.edc.registration.ParticipantUtils.createParticipant;
 import static org.eclipse.edc.registration.TestUtils.createParticipantDto;
+import static org.eclipse.edc.registration.api.RegistrationServiceApiController.NEXT_CURSOR_HEADER;
+import static org.eclipse.edc.registration.api.RegistrationServiceApiController.NEXT_UPDATED_SINCE_HEADER;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZED;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZING;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.ONBOARDED;
 import static org.eclipse.edc.spi.result.Result.failure;
 import static org.eclipse.edc.spi.result.Result.success;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -52,35 +77,35 @@ class RegistrationServiceApiControllerTest {
     }
 
     @Test
-    void listParticipants_empty() {
-        when(registrationService.listParticipants()).thenReturn(List.of());
+    void listParticipants_empty() throws IOException {
+        participantsInService();
 
-        var participants = controller.listParticipants();
+        var participants = streamed(controller.listParticipants(null, null, null));
 
         assertThat(participants).isEmpty();
     }
 
     @Test
-    void listParticipants() {
+    void listParticipants() throws IOException {
         var participant = createParticipant().build();
         var participantDto = createParticipantDto().build();
-        when(registrationService.listParticipants()).thenReturn(List.of(participant));
+        participantsInService(participant);
         when(transformerRegistry.transform(participant, ParticipantDto.class))
                 .thenReturn(success(participantDto));
 
-        var result = controller.listParticipants();
+        var result = streamed(controller.listParticipants(null, null, null));
 
-        assertThat(result).containsExactly(participantDto);
+        assertThat(result).containsExactly(Map.of("did", participantDto.getDid(), "status", participantDto.getStatus().name()));
         verify(transformerRegistry).transform(participant, ParticipantDto.class);
     }
 
     @Test
-    void listParticipants_verifyResultFilter() {
+    void listParticipants_verifyResultFilter() throws IOException {
         var participant1 = createParticipant().build();
         var participant2 = createParticipant().build();
         var participantDto1 = createParticipantDto().build();
 
-        when(registrationService.listParticipants()).thenReturn(List.of(participant1, participant2));
+        participantsInService(participant1, participant2);
         // Transform for participant1 returns success.
         when(transformerRegistry.transform(participant1, ParticipantDto.class))
                 .thenReturn(success(participantDto1));
@@ -88,23 +113,118 @@ class RegistrationServiceApiControllerTest {
         when(transformerRegistry.transform(participant2, ParticipantDto.class))
                 .thenReturn(failure("error"));
 
-        var result = controller.listParticipants();
+        var result = streamed(controller.listParticipants(null, null, null));
 
-        assertThat(result).containsExactly(participantDto1);
+        assertThat(result).containsExactly(Map.of("did", participantDto1.getDid(), "status", participantDto1.getStatus().name()));
         verify(transformerRegistry).transform(participant1, ParticipantDto.class);
         verify(transformerRegistry).transform(participant2, ParticipantDto.class);
     }
 
+    @Test
+    void listParticipants_paged() {
+        var participant1 = createParticipant().did("did:web:1").build();
+        var participant2 = createParticipant().did("did:web:2").build();
+        var participant3 = createParticipant().did("did:web:3").build();
+        when(registrationService.listParticipants(3, "did:web:0")).thenReturn(List.of(participant1, participant2, participant3));
+        when(transformerRegistry.transform(any(), eq(ParticipantDto.class))).thenReturn(success(createParticipantDto().build()));
+
+        var response = controller.listParticipants(2, "did:web:0", null);
+
+        assertThat(participants(response)).hasSize(2);
+        assertThat(response.getHeaderString(NEXT_CURSOR_HEADER)).isEqualTo("did:web:2");
+    }
+
+    @Test
+    void listParticipants_lastPage() {
+        var participant = createParticipant().did("did:web:1").build();
+        when(registrationService.listParticipants(3, null)).thenReturn(List.of(participant));
+        when(transformerRegistry.transform(any(), eq(ParticipantDto.class))).thenReturn(success(createParticipantDto().build()));
+
+        var response = controller.listParticipants(2, null, null);
+
+        assertThat(participants(response)).hasSize(1);
+        assertThat(response.getHeaderString(NEXT_CURSOR_HEADER)).isNull();
+    }
+
+    @Test
+    void listParticipants_afterWithoutLimit_readsMaxPage() {
+        var participant = createParticipant().did("did:web:1").build();
+        when(registrationService.listParticipants(RegistrationServiceApiController.MAX_PAGE_SIZE + 1, "did:web:0")).thenReturn(List.of(participant));
+        when(transformerRegistry.transform(any(), eq(ParticipantDto.class))).thenReturn(success(createParticipantDto().build()));
+
+        var response = controller.listParticipants(null, "did:web:0", null);
+
+        assertThat(participants(response)).hasSize(1);
+        assertThat(response.getHeaderString(NEXT_CURSOR_HEADER)).isNull();
+    }
+
+    @Test
+    void listParticipants_updatedSince() {
+        var participant1 = createParticipant().did("did:web:1").updatedAt(1000L).build();
+        var participant2 = createParticipant().did("did:web:2").updatedAt(2000L).build();
+        when(registrationService.listParticipantsUpdatedSince(500L, "did:web:0", 2)).thenReturn(List.of(participant1, participant2));
+        when(transformerRegistry.transform(any(), eq(ParticipantDto.class))).thenReturn(success(createParticipantDto().build()));
+
+        var response = controller.listParticipants(2, "did:web:0", 500L);
+
+        assertThat(participants(response)).hasSize(2);
+        assertThat(response.getHeaderString(NEXT_UPDATED_SINCE_HEADER)).isEqualTo("2000");
+        assertThat(response.getHeaderString(NEXT_CURSOR_HEADER)).isEqualTo("did:web:2");
+    }
+
+    @Test
+    void listParticipants_updatedSince_noChanges() {
+        when(registrationService.listParticipantsUpdatedSince(500L, null, RegistrationServiceApiController.MAX_PAGE_SIZE)).thenReturn(List.of());
+
+        var response = controller.listParticipants(null, null, 500L);
+
+        assertThat(participants(response)).isEmpty();
+        assertThat(response.getHeaderString(NEXT_UPDATED_SINCE_HEADER)).isNull();
+        assertThat(response.getHeaderString(NEXT_CURSOR_HEADER)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -1, RegistrationServiceApiController.MAX_PAGE_SIZE + 1 })
+    void listParticipants_invalidLimit(int limit) {
+        assertThatExceptionOfType(InvalidRequestException.class).isThrownBy(() -> controller.listParticipants(limit, null, null));
+        assertThatExceptionOfType(InvalidRequestException.class).isThrownBy(() -> controller.listParticipants(limit, null, 0L));
+        verifyNoInteractions(registrationService);
+    }
+
+    @Test
+    void getParticipantStats() {
+        when(registrationService.countParticipantsByStatus()).thenReturn(Map.of(AUTHORIZING, 2L, AUTHORIZED, 1L, ONBOARDED, 4L));
+
+        var stats = controller.getParticipantStats();
+
+        assertThat(stats.getTotal()).isEqualTo(7);
+        assertThat(stats.getByStatus()).isEqualTo(Map.of(
+                ParticipantStatusDto.ONBOARDING_IN_PROGRESS, 3L,
+                ParticipantStatusDto.ONBOARDED, 4L,
+                ParticipantStatusDto.DENIED, 0L));
+        verifyNoInteractions(transformerRegistry);
+    }
+
     @Test
     void addParticipant() {
         var header = mock(HttpHeaders.class);
         when(header.getHeaderString("CallerDid")).thenReturn(DID);
+        when(registrationService.addParticipant(DID)).thenReturn(ServiceResult.success());
 
         controller.addParticipant(header);
 
         verify(registrationService).addParticipant(DID);
     }
 
+    @Test
+    void addParticipant_conflict() {
+        var header = mock(HttpHeaders.class);
+        when(header.getHeaderString("CallerDid")).thenReturn(DID);
+        when(registrationService.addParticipant(DID)).thenReturn(ServiceResult.conflict("leased"));
+
+        assertThatExceptionOfType(ObjectConflictException.class).isThrownBy(() -> controller.addParticipant(header));
+    }
+
     @Test
     void findByDid() {
         var participant = createParticipant().build();
@@ -149,4 +269,42 @@ class RegistrationServiceApiControllerTest {
 
         verifyNoInteractions(transformerRegistry);
     }
+
+    @Test
+    void listParticipants_writesWithinServiceCall() throws IOException {
+        var participant = createParticipant().build();
+        var inServiceCall = new AtomicBoolean();
+        doAnswer(invocation -> {
+            inServiceCall.set(true);
+            invocation.<Consumer<Participant>>getArgument(0).accept(participant);
+            inServiceCall.set(false);
+            return null;
+        }).when(registrationService).forEachParticipant(any());
+        when(transformerRegistry.transform(participant, ParticipantDto.class)).thenAnswer(invocation -> {
+            assertThat(inServiceCall).isTrue();
+            return success(createParticipantDto().build());
+        });
+
+        assertThat(streamed(controller.listParticipants(null, null, null))).hasSize(1);
+    }
+
+    private void participantsInService(Participant... participants) {
+        doAnswer(invocation -> {
+            Consumer<Participant> consumer = invocation.getArgument(0);
+            Arrays.stream(participants).forEach(consumer);
+            return null;
+        }).when(registrationService).forEachParticipant(any());
+    }
+
+    private List<Map<String, Object>> streamed(Response response) throws IOException {
+        var output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+        return new ObjectMapper().readValue(output.toByteArray(), new TypeReference<>() {
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ParticipantDto> participants(Response response) {
+        return (List<ParticipantDto>) response.getEntity();
+    }
 }
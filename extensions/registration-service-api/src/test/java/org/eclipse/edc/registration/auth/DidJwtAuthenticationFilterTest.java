@@ -14,7 +14,12 @@
 
 package org.eclipse.edc.registration.auth;
 
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import org.assertj.core.api.ThrowableAssertAlternative;
@@ -32,12 +37,18 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.edc.registration.auth.DidJwtAuthenticationFilter.CALLER_DID_HEADER;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DidJwtAuthenticationFilterTest {
@@ -115,6 +126,78 @@ class DidJwtAuthenticationFilterTest {
         assertNotAuthenticated("Invalid JWT (verification error). Claim verification failed.");
     }
 
+    @Test
+    void filter_onMissingSubject_fails() throws Exception {
+        var claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .audience(audience)
+                .expirationTime(Date.from(Instant.now().plusSeconds(300)));
+        headers.putSingle(AUTHORIZATION, "Bearer " + sign(claims.build()));
+
+        assertNotAuthenticated("Invalid JWT (verification error). Claim verification failed.");
+    }
+
+    @Test
+    void filter_onSeveralAudiences_fails() throws Exception {
+        var claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(issuer)
+                .audience(List.of(audience, "test-other-audience"))
+                .expirationTime(Date.from(Instant.now().plusSeconds(300)));
+        headers.putSingle(AUTHORIZATION, "Bearer " + sign(claims.build()));
+
+        assertNotAuthenticated("Invalid JWT (verification error). Claim verification failed.");
+    }
+
+    @Test
+    void filter_withPublicKeyCache_resolvesKeyOnce() {
+        var publicKeyCache = new PublicKeyCache(didPublicKeyResolver, did -> { }, Runnable::run, monitor,
+                Duration.ofMinutes(5), Duration.ofHours(1), 10, Clock.systemUTC());
+        var cachingFilter = new DidJwtAuthenticationFilter(monitor, publicKeyCache, audience, null);
+        headers.putSingle(AUTHORIZATION, authHeader);
+
+        cachingFilter.filter(request);
+        headers.putSingle(AUTHORIZATION, "Bearer " + getTokenFor(audience));
+        cachingFilter.filter(request);
+
+        assertThat(headers.get(CALLER_DID_HEADER)).containsExactly(issuer);
+        verify(didPublicKeyResolver, times(1)).resolvePublicKey(startsWith(issuer));
+    }
+
+    @Test
+    void filter_withTokenCache_verifiesTokenOnce() {
+        var cachingFilter = new DidJwtAuthenticationFilter(monitor, didPublicKeyResolver, audience, new VerifiedTokenCache(10, Clock.systemUTC()));
+        headers.putSingle(AUTHORIZATION, authHeader);
+
+        cachingFilter.filter(request);
+        headers.remove(CALLER_DID_HEADER);
+        cachingFilter.filter(request);
+
+        assertThat(headers.get(CALLER_DID_HEADER)).containsExactly(issuer);
+        verify(didPublicKeyResolver, times(1)).resolvePublicKey(startsWith(issuer));
+    }
+
+    @Test
+    void filter_withTokenCache_verifiesExpiredTokenAgain() {
+        var clock = Clock.offset(Clock.systemUTC(), Duration.ofDays(1));
+        var cachingFilter = new DidJwtAuthenticationFilter(monitor, didPublicKeyResolver, audience, new VerifiedTokenCache(10, clock));
+        headers.putSingle(AUTHORIZATION, authHeader);
+
+        cachingFilter.filter(request);
+        cachingFilter.filter(request);
+
+        verify(didPublicKeyResolver, times(2)).resolvePublicKey(startsWith(issuer));
+    }
+
+    @Test
+    void filter_withTokenCache_doesNotCacheFailures() {
+        var cachingFilter = new DidJwtAuthenticationFilter(monitor, didPublicKeyResolver, audience, new VerifiedTokenCache(10, Clock.systemUTC()));
+        headers.putSingle(AUTHORIZATION, "Bearer " + getTokenFor("other audience test-other-audience"));
+
+        assertThatExceptionOfType(AuthenticationFailedException.class).isThrownBy(() -> cachingFilter.filter(request));
+        assertThatExceptionOfType(AuthenticationFailedException.class).isThrownBy(() -> cachingFilter.filter(request));
+    }
+
     private String getTokenFor(String targetAudience) {
         return JwtUtils.create(
                 privateKey,
@@ -124,6 +207,12 @@ class DidJwtAuthenticationFilterTest {
                 Clock.systemUTC()).serialize();
     }
 
+    private String sign(JWTClaimsSet claims) throws JOSEException {
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).build(), claims);
+        jwt.sign(privateKey.signer());
+        return jwt.serialize();
+    }
+
     private ThrowableAssertAlternative<AuthenticationFailedException> assertNotAuthenticated(String message) {
         return assertThatExceptionOfType(AuthenticationFailedException.class)
                 .isThrownBy(() -> filter.filter(request))
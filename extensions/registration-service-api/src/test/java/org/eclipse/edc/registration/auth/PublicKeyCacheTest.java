@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.auth;
+
+import com.nimbusds.jose.jwk.JWK;
+import org.eclipse.edc.iam.did.crypto.key.EcPublicKeyWrapper;
+import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
+import org.eclipse.edc.registration.client.TestKeyData;
+import org.eclipse.edc.registration.spi.did.CachingDidResolverRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PublicKeyCacheTest {
+
+    private static final String ISSUER = "did:web:participant";
+
+    private final DidPublicKeyResolver resolver = mock(DidPublicKeyResolver.class);
+    @SuppressWarnings("unchecked")
+    private final Consumer<String> didInvalidator = mock(Consumer.class);
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final Clock clock = mock(Clock.class);
+    private PublicKeyCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var publicKey = new EcPublicKeyWrapper(JWK.parseFromPEMEncodedObjects(TestKeyData.PUBLIC_KEY_P256).toECKey());
+        when(resolver.resolvePublicKey(anyString())).thenReturn(Result.success(publicKey));
+        when(clock.millis()).thenReturn(0L);
+        cache = new PublicKeyCache(resolver, didInvalidator, refreshes::add, mock(Monitor.class),
+                Duration.ofMinutes(5), Duration.ofHours(1), 10, clock);
+    }
+
+    @Test
+    void getVerifier_resolvesThroughDidResolutionCache() {
+        var didResolverRegistry = mock(CachingDidResolverRegistry.class);
+        when(didResolverRegistry.resolve(anyString())).thenReturn(Result.failure("unreachable"));
+        cache = new PublicKeyCache(didResolverRegistry, refreshes::add, mock(Monitor.class),
+                Duration.ofMinutes(5), Duration.ofHours(1), 10, clock);
+
+        assertThat(cache.getVerifier(ISSUER, "key-1").failed()).isTrue();
+
+        verify(didResolverRegistry).resolve(ISSUER);
+        verifyNoInteractions(resolver);
+    }
+
+    @Test
+    void getVerifier_resolvesOnce() {
+        var first = cache.getVerifier(ISSUER, "key-1");
+        var second = cache.getVerifier(ISSUER, "key-1");
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        verify(resolver, times(1)).resolvePublicKey(ISSUER + "#key-1");
+    }
+
+    @Test
+    void getVerifier_stale_returnsCachedAndRefreshesInBackground() {
+        var cached = cache.getVerifier(ISSUER, "key-1").getContent();
+
+        when(clock.millis()).thenReturn(Duration.ofMinutes(5).toMillis());
+        assertThat(cache.getVerifier(ISSUER, "key-1").getContent()).isSameAs(cached);
+        assertThat(cache.getVerifier(ISSUER, "key-1").getContent()).isSameAs(cached);
+
+        verify(resolver, times(1)).resolvePublicKey(ISSUER + "#key-1");
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+        verify(resolver, times(2)).resolvePublicKey(ISSUER + "#key-1");
+        assertThat(cache.getVerifier(ISSUER, "key-1").getContent()).isNotSameAs(cached);
+    }
+
+    @Test
+    void getVerifier_failedRefresh_keepsStaleEntryUntilExpiration() {
+        var cached = cache.getVerifier(ISSUER, "key-1").getContent();
+        when(clock.millis()).thenReturn(Duration.ofMinutes(5).toMillis());
+        cache.getVerifier(ISSUER, "key-1");
+        when(resolver.resolvePublicKey(anyString())).thenReturn(Result.failure("unreachable"));
+
+        refreshes.get(0).run();
+
+        assertThat(cache.getVerifier(ISSUER, "key-1").getContent()).isSameAs(cached);
+        when(clock.millis()).thenReturn(Duration.ofHours(1).toMillis());
+        assertThat(cache.getVerifier(ISSUER, "key-1").failed()).isTrue();
+    }
+
+    @Test
+    void getVerifier_failure_isNotCached() {
+        when(resolver.resolvePublicKey(anyString())).thenReturn(Result.failure("unreachable"));
+
+        assertThat(cache.getVerifier(ISSUER, "key-1").failed()).isTrue();
+        assertThat(cache.getVerifier(ISSUER, "key-1").failed()).isTrue();
+
+        verify(resolver, times(2)).resolvePublicKey(ISSUER + "#key-1");
+    }
+
+    @Test
+    void getVerifier_newKid_invalidatesDidDocumentAndPreviousKeys() {
+        cache.getVerifier(ISSUER, "key-1");
+        when(clock.millis()).thenReturn(PublicKeyCache.MIN_ROTATION_INTERVAL.toMillis());
+
+        cache.getVerifier(ISSUER, "key-2");
+        cache.getVerifier(ISSUER, "key-1");
+
+        verify(didInvalidator).accept(ISSUER);
+        verify(resolver, times(2)).resolvePublicKey(ISSUER + "#key-1");
+        verify(resolver, times(1)).resolvePublicKey(ISSUER + "#key-2");
+    }
+
+    @Test
+    void getVerifier_newKidWithinRotationInterval_doesNotInvalidateDidDocument() {
+        cache.getVerifier(ISSUER, "key-1");
+
+        cache.getVerifier(ISSUER, "key-2");
+
+        verify(didInvalidator, never()).accept(anyString());
+    }
+
+    @Test
+    void getVerifier_forgedKids_invalidateDidDocumentOncePerRotationInterval() {
+        cache.getVerifier(ISSUER, "key-1");
+        when(resolver.resolvePublicKey(anyString())).thenReturn(Result.failure("unknown key"));
+        when(clock.millis()).thenReturn(PublicKeyCache.MIN_ROTATION_INTERVAL.toMillis());
+
+        assertThat(cache.getVerifier(ISSUER, "forged-1").failed()).isTrue();
+        assertThat(cache.getVerifier(ISSUER, "forged-2").failed()).isTrue();
+
+        verify(didInvalidator, times(1)).accept(ISSUER);
+
+        when(clock.millis()).thenReturn(2 * PublicKeyCache.MIN_ROTATION_INTERVAL.toMillis());
+        cache.getVerifier(ISSUER, "forged-3");
+
+        verify(didInvalidator, times(2)).accept(ISSUER);
+    }
+
+    @Test
+    void getVerifier_unknownIssuer_doesNotInvalidateDidDocument() {
+        cache.getVerifier(ISSUER, "key-1");
+        when(clock.millis()).thenReturn(PublicKeyCache.MIN_ROTATION_INTERVAL.toMillis());
+
+        cache.getVerifier("did:web:other", "key-1");
+
+        verify(didInvalidator, never()).accept(anyString());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTest {
+
+    private final Clock clock = mock(Clock.class);
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        cache = new VerifiedTokenCache(2, clock);
+    }
+
+    @Test
+    void getIssuer_untilExpiration() {
+        cache.put("token", "did:web:issuer", 1000);
+
+        when(clock.millis()).thenReturn(999L);
+        assertThat(cache.getIssuer("token")).isEqualTo("did:web:issuer");
+
+        when(clock.millis()).thenReturn(1000L);
+        assertThat(cache.getIssuer("token")).isNull();
+    }
+
+    @Test
+    void getIssuer_unknownToken() {
+        cache.put("token", "did:web:issuer", 1000);
+
+        assertThat(cache.getIssuer("other-token")).isNull();
+    }
+
+    @Test
+    void put_expiredToken_isIgnored() {
+        when(clock.millis()).thenReturn(1000L);
+
+        cache.put("token", "did:web:issuer", 1000);
+
+        assertThat(cache.getIssuer("token")).isNull();
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsed() {
+        cache.put("a", "did:web:a", 1000);
+        cache.put("b", "did:web:b", 1000);
+        cache.getIssuer("a");
+
+        cache.put("c", "did:web:c", 1000);
+
+        assertThat(cache.getIssuer("a")).isEqualTo("did:web:a");
+        assertThat(cache.getIssuer("b")).isNull();
+        assertThat(cache.getIssuer("c")).isEqualTo("did:web:c");
+    }
+
+    @Test
+    void invalidSize() {
+        assertThatThrownBy(() -> new VerifiedTokenCache(0, clock)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
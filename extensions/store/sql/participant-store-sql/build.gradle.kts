@@ -8,6 +8,9 @@ dependencies {
     api(libs.edc.spi.transaction.datasource)
     api(libs.edc.core.sql)
 
+    implementation(libs.flyway.core)
+    implementation(libs.postgres)
+
     testImplementation(libs.edc.core.junit)
     testImplementation(testFixtures(libs.edc.core.sql))
     testImplementation(testFixtures(project(":spi:registration-service-store-spi")))
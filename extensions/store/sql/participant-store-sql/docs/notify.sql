@@ -0,0 +1,16 @@
+-- optional: notifies the runtimes sharing the store of new participants, see README
+CREATE OR REPLACE FUNCTION edc_participant_notify_added() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_notify('edc_participant_added', NEW.did);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS edc_participant_added ON edc_participant;
+
+CREATE TRIGGER edc_participant_added
+    AFTER INSERT
+    ON edc_participant
+    FOR EACH ROW
+EXECUTE FUNCTION edc_participant_notify_added();
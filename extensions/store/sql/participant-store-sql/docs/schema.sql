@@ -8,5 +8,11 @@ CREATE TABLE IF NOT EXISTS edc_participant
     error_detail         VARCHAR,
     trace_context        JSON,
     created_at           BIGINT NOT NULL,
-    updated_at           BIGINT NOT NULL
+    updated_at           BIGINT NOT NULL,
+    lease_holder         VARCHAR,
+    lease_expiration     BIGINT
 );
+
+
+CREATE INDEX IF NOT EXISTS edc_participant_state_timestamp_idx ON edc_participant (state, state_timestamp);
+CREATE INDEX IF NOT EXISTS edc_participant_updated_at_idx ON edc_participant (updated_at, did);
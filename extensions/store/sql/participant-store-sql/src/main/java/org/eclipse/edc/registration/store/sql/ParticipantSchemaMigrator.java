@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.store.sql;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Applies the versioned migrations of the participant schema, found in the {@value #MIGRATIONS_LOCATION} resources.
+ * <p>
+ * Databases created before migrations were introduced, from {@code docs/schema.sql}, are baselined at version 0, so that
+ * all migrations run on them. Migrations are therefore written to be idempotent.
+ */
+public class ParticipantSchemaMigrator {
+
+    public static final String HISTORY_TABLE = "edc_participant_schema_history";
+    private static final String MIGRATIONS_LOCATION = "classpath:org/eclipse/edc/registration/store/sql/migration";
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final Monitor monitor;
+
+    public ParticipantSchemaMigrator(DataSourceRegistry dataSourceRegistry, String dataSourceName, Monitor monitor) {
+        this.dataSourceRegistry = Objects.requireNonNull(dataSourceRegistry);
+        this.dataSourceName = Objects.requireNonNull(dataSourceName);
+        this.monitor = Objects.requireNonNull(monitor);
+    }
+
+    public void migrate() {
+        var dataSource = Objects.requireNonNull(dataSourceRegistry.resolve(dataSourceName), format("DataSource %s could not be resolved", dataSourceName));
+        var flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .table(HISTORY_TABLE)
+                .locations(MIGRATIONS_LOCATION)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load();
+        try {
+            var result = flyway.migrate();
+            monitor.info(format("Participant schema at version %s, %s migration(s) applied", result.targetSchemaVersion, result.migrationsExecuted));
+        } catch (FlywayException e) {
+            throw new EdcPersistenceException("Failed to migrate the participant schema: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.store.sql;
+
+import org.eclipse.edc.registration.store.spi.ParticipantStoreNotifier;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.postgresql.PGConnection;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.lang.String.format;
+
+/**
+ * {@link ParticipantStoreNotifier} relying on Postgres LISTEN/NOTIFY. Requires the trigger defined in
+ * {@code docs/notify.sql}, which notifies the {@value #CHANNEL} channel on each new participant.
+ * <p>
+ * A dedicated connection of the data source listens on the channel for as long as the notifier is started, and is
+ * re-opened if it fails. Callbacks are also invoked on each (re)connection, since participants may have been added while
+ * not listening.
+ */
+public class PostgresParticipantStoreNotifier implements ParticipantStoreNotifier {
+
+    public static final String CHANNEL = "edc_participant_added";
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final Monitor monitor;
+    private final List<Runnable> callbacks = new CopyOnWriteArrayList<>();
+    private volatile boolean active;
+    private Thread listener;
+
+    public PostgresParticipantStoreNotifier(DataSourceRegistry dataSourceRegistry, String dataSourceName, Monitor monitor) {
+        this.dataSourceRegistry = Objects.requireNonNull(dataSourceRegistry);
+        this.dataSourceName = Objects.requireNonNull(dataSourceName);
+        this.monitor = Objects.requireNonNull(monitor);
+    }
+
+    @Override
+    public void subscribe(Runnable callback) {
+        callbacks.add(callback);
+    }
+
+    public void start() {
+        active = true;
+        listener = new Thread(this::listen, "participant-store-notifier");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    public void stop() {
+        active = false;
+        if (listener != null) {
+            listener.interrupt();
+            try {
+                listener.join(POLL_TIMEOUT_MILLIS * 2L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void listen() {
+        while (active) {
+            var dataSource = Objects.requireNonNull(dataSourceRegistry.resolve(dataSourceName), format("DataSource %s could not be resolved", dataSourceName));
+            try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                statement.execute("LISTEN " + CHANNEL);
+                var pgConnection = connection.unwrap(PGConnection.class);
+                notifyCallbacks();
+
+                while (active) {
+                    var notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        notifyCallbacks();
+                    }
+                }
+            } catch (SQLException e) {
+                if (active) {
+                    monitor.warning(format("Listening to channel %s failed, retrying in %s ms", CHANNEL, RECONNECT_DELAY_MILLIS), e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void notifyCallbacks() {
+        callbacks.forEach(callback -> {
+            try {
+                callback.run();
+            } catch (Exception e) {
+                monitor.severe("Participant store notification callback failed", e);
+            }
+        });
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            active = false;
+        }
+    }
+}
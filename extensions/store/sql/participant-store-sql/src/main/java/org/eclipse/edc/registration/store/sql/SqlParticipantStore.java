@@ -31,10 +31,21 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.format;
 
@@ -44,13 +55,17 @@ import static java.lang.String.format;
 
 public class SqlParticipantStore extends AbstractSqlStore implements ParticipantStore {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final ParticipantStatements participantStatements;
+    private final Clock clock;
 
 
     public SqlParticipantStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
-                               ObjectMapper objectMapper, ParticipantStatements participantStatements, QueryExecutor queryExecutor) {
+                               ObjectMapper objectMapper, ParticipantStatements participantStatements, QueryExecutor queryExecutor, Clock clock) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.participantStatements = Objects.requireNonNull(participantStatements);
+        this.clock = Objects.requireNonNull(clock);
     }
 
     @Override
@@ -68,6 +83,21 @@ public class SqlParticipantStore extends AbstractSqlStore implements Participant
 
     }
 
+    @Override
+    public @Nullable Long findUpdatedAt(String did) {
+        Objects.requireNonNull(did);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection();
+                 var stream = queryExecutor.query(connection, false, resultSet -> resultSet.getLong(1), participantStatements.getSelectUpdatedAtByDidTemplate(), did)) {
+                return stream.findFirst().orElse(null);
+            } catch (EdcPersistenceException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
     @Override
     public List<Participant> listParticipants() {
         return transactionContext.execute(() -> {
@@ -84,24 +114,136 @@ public class SqlParticipantStore extends AbstractSqlStore implements Participant
     }
 
     @Override
-    public StoreResult<Participant> save(Participant participant) {
-        transactionContext.execute(() -> {
+    public List<Participant> listParticipants(int limit, @Nullable String after) {
+        return transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existingParticipant = findByDidInternal(connection, participant.getDid());
-                if (existingParticipant == null) {
-                    insert(connection, participant);
-                } else {
-                    update(connection, existingParticipant, participant);
+                var stream = after == null ?
+                        queryExecutor.query(connection, true, this::participantMapper, participantStatements.getSelectParticipantPageTemplate(), limit) :
+                        queryExecutor.query(connection, true, this::participantMapper, participantStatements.getSelectParticipantPageAfterTemplate(), after, limit);
+                try (stream) {
+                    return stream.collect(Collectors.toList());
+                }
+            } catch (EdcPersistenceException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public List<Participant> listParticipantsUpdatedSince(long updatedSince, @Nullable String after, int limit) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var stream = after == null ?
+                        queryExecutor.query(connection, true, this::participantMapper, participantStatements.getSelectParticipantUpdatedSinceTemplate(), updatedSince, limit) :
+                        queryExecutor.query(connection, true, this::participantMapper, participantStatements.getSelectParticipantUpdatedSinceAfterTemplate(), updatedSince, updatedSince, after, limit);
+                try (stream) {
+                    return stream.collect(Collectors.toList());
+                }
+            } catch (EdcPersistenceException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Streams the participants through a cursor on the connection of the current transaction, so the stream must be
+     * consumed and closed within {@link TransactionContext#execute}. Postgres only fetches rows in chunks within a
+     * transaction, otherwise it reads the whole result at once.
+     */
+    @Override
+    public Stream<Participant> streamParticipants() {
+        var connection = getConnection();
+        try {
+            var statement = connection.prepareStatement(participantStatements.getSelectParticipantTemplate(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            var resultSet = statement.executeQuery();
+
+            return StreamSupport.stream(new Spliterators.AbstractSpliterator<Participant>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super Participant> action) {
+                    try {
+                        if (!resultSet.next()) {
+                            return false;
+                        }
+                        action.accept(participantMapper(resultSet));
+                        return true;
+                    } catch (SQLException e) {
+                        throw new EdcPersistenceException(e.getMessage(), e);
+                    }
                 }
+            }, false).onClose(() -> close(resultSet, statement, connection));
+        } catch (SQLException e) {
+            close(connection);
+            throw new EdcPersistenceException(e.getMessage(), e);
+        }
+    }
 
+    @Override
+    public Map<ParticipantStatus, Long> countByStatus() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection();
+                 var stream = queryExecutor.query(connection, false, this::stateCountMapper, participantStatements.getCountByStateTemplate())) {
+                var counts = new EnumMap<ParticipantStatus, Long>(ParticipantStatus.class);
+                stream.forEach(count -> counts.put(count.state(), count.count()));
+                return counts;
             } catch (EdcPersistenceException e) {
                 throw e;
             } catch (Exception e) {
                 throw new EdcPersistenceException(e.getMessage(), e);
             }
         });
+    }
 
-        return null;
+    @Override
+    public StoreResult<Participant> save(Participant participant, @Nullable String leaseHolder) {
+        try {
+            transactionContext.execute(() -> {
+                try (var connection = getConnection()) {
+                    save(connection, participant, leaseHolder, clock.millis());
+                } catch (EdcPersistenceException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new EdcPersistenceException(e.getMessage(), e);
+                }
+            });
+        } catch (LeasedException e) {
+            return StoreResult.alreadyLeased(e.getMessage());
+        }
+        return StoreResult.success(participant);
+    }
+
+    @Override
+    public StoreResult<Void> saveAll(Collection<Participant> participants, @Nullable String leaseHolder) {
+        if (participants.isEmpty()) {
+            return StoreResult.success();
+        }
+        try {
+            transactionContext.execute(() -> {
+                try (var connection = getConnection()) {
+                    var now = clock.millis();
+                    var upsertTemplate = participantStatements.getUpsertParticipantTemplate();
+                    if (upsertTemplate == null) {
+                        for (var participant : participants) {
+                            save(connection, participant, leaseHolder, now);
+                        }
+                    } else {
+                        upsertAll(connection, upsertTemplate, participants, leaseHolder, now);
+                    }
+                } catch (EdcPersistenceException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new EdcPersistenceException(e.getMessage(), e);
+                }
+            });
+        } catch (LeasedException e) {
+            // thrown from within the transaction, so that the participants saved before are rolled back
+            return StoreResult.alreadyLeased(e.getMessage());
+        }
+        return StoreResult.success();
     }
 
     @Override
@@ -119,24 +261,138 @@ public class SqlParticipantStore extends AbstractSqlStore implements Participant
         });
     }
 
-    private void update(Connection connection, Participant oldParticipant, Participant participant) {
+    @Override
+    public List<Participant> claimParticipantsWithStatus(ParticipantStatus state, int max, String leaseHolder, Duration leaseDuration) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                var expiration = now + leaseDuration.toMillis();
+                // the participants are selected and leased in a single statement, the rows returned are not ordered
+                try (var stream = queryExecutor.query(connection, false, this::participantMapper, participantStatements.getClaimParticipantsByStateTemplate(),
+                        leaseHolder, expiration, state.code(), now, max)) {
+                    return stream.sorted(Comparator.comparingLong(Participant::getStateTimestamp)).collect(Collectors.toList());
+                }
+            } catch (EdcPersistenceException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Closes all the resources, even if closing one of them fails, so that the connection is always released.
+     */
+    private void close(AutoCloseable... resources) {
+        EdcPersistenceException failure = null;
+        for (var resource : resources) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = new EdcPersistenceException(e.getMessage(), e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void update(Connection connection, Participant oldParticipant, Participant participant, @Nullable String leaseHolder, long now) {
         if (!oldParticipant.getId().equals(participant.getId())) {
             throw new EdcPersistenceException(format("Failed to update Participant with did %s: participant id didn't match", participant.getDid()));
         }
-        queryExecutor.execute(connection, participantStatements.getUpdateParticipantTemplate(),
+        var updated = queryExecutor.execute(connection, participantStatements.getUpdateParticipantTemplate(),
                 participant.getState(),
                 participant.getStateCount(),
                 participant.getStateTimestamp(),
                 participant.getErrorDetail(),
                 toJson(participant.getTraceContext()),
                 participant.getUpdatedAt(),
-                participant.getDid()
+                participant.getDid(),
+                leaseHolder == null,
+                now,
+                leaseHolder,
+                now
         );
+        if (updated == 0) {
+            throw new LeasedException(participant);
+        }
+    }
+
+    private void save(Connection connection, Participant participant, @Nullable String leaseHolder, long now) {
+        var upsertTemplate = participantStatements.getUpsertParticipantTemplate();
+        if (upsertTemplate != null) {
+            upsert(connection, upsertTemplate, participant, leaseHolder, now);
+            return;
+        }
 
+        var existingParticipant = findByDidInternal(connection, participant.getDid());
+        if (existingParticipant == null) {
+            insert(connection, participant);
+        } else {
+            update(connection, existingParticipant, participant, leaseHolder, now);
+        }
+    }
+
+    private void upsertAll(Connection connection, String upsertTemplate, Collection<Participant> participants, @Nullable String leaseHolder, long now) throws SQLException {
+        var batch = List.copyOf(participants);
+        try (var statement = connection.prepareStatement(upsertTemplate)) {
+            for (var participant : batch) {
+                var parameters = upsertParameters(participant, leaseHolder, now);
+                for (var i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                statement.addBatch();
+            }
+
+            var updateCounts = statement.executeBatch();
+            for (var i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == 0) {
+                    throw notUpserted(connection, batch.get(i));
+                }
+            }
+        }
+    }
+
+    private void upsert(Connection connection, String upsertTemplate, Participant participant, @Nullable String leaseHolder, long now) {
+        // the conflicting row is only updated if it has the same id and its lease allows it
+        var updated = queryExecutor.execute(connection, upsertTemplate, upsertParameters(participant, leaseHolder, now));
+        if (updated == 0) {
+            throw notUpserted(connection, participant);
+        }
+    }
+
+    /**
+     * Tells why the conflicting row of a participant was not updated.
+     */
+    private EdcPersistenceException notUpserted(Connection connection, Participant participant) {
+        var existingParticipant = findByDidInternal(connection, participant.getDid());
+        if (existingParticipant != null && existingParticipant.getId().equals(participant.getId())) {
+            return new LeasedException(participant);
+        }
+        return new EdcPersistenceException(format("Failed to update Participant with did %s: participant id didn't match", participant.getDid()));
     }
 
     private void insert(Connection connection, Participant participant) {
-        queryExecutor.execute(connection, participantStatements.getInsertParticipantsTemplate(),
+        queryExecutor.execute(connection, participantStatements.getInsertParticipantsTemplate(), insertParameters(participant));
+    }
+
+    private Object[] upsertParameters(Participant participant, @Nullable String leaseHolder, long now) {
+        var insertParameters = insertParameters(participant);
+        var parameters = Arrays.copyOf(insertParameters, insertParameters.length + 4);
+        parameters[insertParameters.length] = leaseHolder == null;
+        parameters[insertParameters.length + 1] = now;
+        parameters[insertParameters.length + 2] = leaseHolder;
+        parameters[insertParameters.length + 3] = now;
+        return parameters;
+    }
+
+    private Object[] insertParameters(Participant participant) {
+        return new Object[]{
                 participant.getId(),
                 participant.getDid(),
                 participant.getState(),
@@ -146,7 +402,7 @@ public class SqlParticipantStore extends AbstractSqlStore implements Participant
                 toJson(participant.getTraceContext()),
                 participant.getCreatedAt(),
                 participant.getUpdatedAt()
-        );
+        };
     }
 
     private Participant participantMapper(ResultSet resultSet) throws SQLException {
@@ -162,10 +418,25 @@ public class SqlParticipantStore extends AbstractSqlStore implements Participant
                 .build();
     }
 
+    private StateCount stateCountMapper(ResultSet resultSet) throws SQLException {
+        return new StateCount(ParticipantStatus.from(resultSet.getInt(1)), resultSet.getLong(2));
+    }
+
     private Participant findByDidInternal(Connection connection, String did) {
         try (var stream = queryExecutor.query(connection, false, this::participantMapper, participantStatements.getSelectParticipantByDidTemplate(), did)) {
             return stream.findFirst().orElse(null);
         }
     }
 
+    private record StateCount(ParticipantStatus state, long count) {
+    }
+
+    /**
+     * Thrown when a participant is saved without holding its lease, so that the transaction is rolled back.
+     */
+    private static class LeasedException extends EdcPersistenceException {
+        LeasedException(Participant participant) {
+            super(format("Participant %s is leased by another holder or its lease expired", participant.getDid()));
+        }
+    }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.registration.store.sql;
 
 import org.eclipse.edc.registration.store.spi.ParticipantStore;
+import org.eclipse.edc.registration.store.spi.ParticipantStoreNotifier;
 import org.eclipse.edc.registration.store.sql.schema.ParticipantStatements;
 import org.eclipse.edc.registration.store.sql.schema.PostgresSqlParticipantStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -29,10 +30,12 @@ import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+
 /**
  * Extension that provides a {@link ParticipantStore} with SQL as backend storage
  */
-@Provides(ParticipantStore.class)
+@Provides({ ParticipantStore.class, ParticipantStoreNotifier.class })
 @Extension(value = SqlParticipantStoreExtension.NAME)
 public class SqlParticipantStoreExtension implements ServiceExtension {
 
@@ -41,6 +44,10 @@ public class SqlParticipantStoreExtension implements ServiceExtension {
     @Setting
     private static final String DATASOURCE_NAME_SETTING = "edc.datasource.participant.name";
     private static final String DEFAULT_DATASOURCE_NAME = "participant";
+    @Setting(value = "Listen to Postgres notifications about new participants, requires the trigger in docs/notify.sql", type = "boolean")
+    private static final String NOTIFICATIONS_ENABLED_SETTING = "edc.registration.store.sql.notifications.enabled";
+    @Setting(value = "Apply the schema migrations of the participant store at startup", type = "boolean")
+    private static final String MIGRATION_ENABLED_SETTING = "edc.registration.store.sql.migration.enabled";
     @Inject(required = false)
     private ParticipantStatements statements;
     @Inject
@@ -51,15 +58,56 @@ public class SqlParticipantStoreExtension implements ServiceExtension {
     private TypeManager typeManager;
     @Inject
     private QueryExecutor queryExecutor;
+    @Inject
+    private Clock clock;
+
+    private PostgresParticipantStoreNotifier notifier;
+    private ParticipantSchemaMigrator migrator;
 
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (context.getSetting(MIGRATION_ENABLED_SETTING, true)) {
+            migrator = new ParticipantSchemaMigrator(dataSourceRegistry, getDataSourceName(context), context.getMonitor());
+        }
+        if (context.getSetting(NOTIFICATIONS_ENABLED_SETTING, false)) {
+            notifier = new PostgresParticipantStoreNotifier(dataSourceRegistry, getDataSourceName(context), context.getMonitor());
+            context.registerService(ParticipantStoreNotifier.class, notifier);
+        }
+    }
+
+    /**
+     * Migrates the schema once all extensions are initialized, as the datasource may be registered by an extension
+     * initialized after this one, and before any extension starts using the store.
+     */
+    @Override
+    public void prepare() {
+        if (migrator != null) {
+            migrator.migrate();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (notifier != null) {
+            notifier.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (notifier != null) {
+            notifier.stop();
+        }
+    }
+
     @Provider
     public ParticipantStore participantStore(ServiceExtensionContext context) {
-        return new SqlParticipantStore(dataSourceRegistry, getDataSourceName(context), trxContext, typeManager.getMapper(), getStatementImpl(), queryExecutor);
+        return new SqlParticipantStore(dataSourceRegistry, getDataSourceName(context), trxContext, typeManager.getMapper(), getStatementImpl(), queryExecutor, clock);
     }
 
     /**
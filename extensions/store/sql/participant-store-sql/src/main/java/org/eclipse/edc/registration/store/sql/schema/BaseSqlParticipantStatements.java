@@ -16,6 +16,7 @@ package org.eclipse.edc.registration.store.sql.schema;
 
 
 import org.eclipse.edc.sql.dialect.PostgresDialect;
+import org.jetbrains.annotations.Nullable;
 
 import static java.lang.String.format;
 
@@ -38,11 +39,22 @@ public class BaseSqlParticipantStatements implements ParticipantStatements {
         return format("SELECT * FROM %s WHERE %s=?", getParticipantTable(), getDidColumn());
     }
 
+    @Override
+    public String getSelectUpdatedAtByDidTemplate() {
+        return format("SELECT %s FROM %s WHERE %s=?", getUpdatedAtColumn(), getParticipantTable(), getDidColumn());
+    }
+
     @Override
     public String getUpdateParticipantTemplate() {
-        return format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?%s, %s=? WHERE %s = ?;",
+        return format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?%s, %s=?, %s=NULL, %s=NULL WHERE %s = ? AND %s;",
                 getParticipantTable(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(),
-                getErrorDetailColumn(), getTraceContextColumn(), getFormatJsonOperator(), getUpdatedAtColumn(), getDidColumn());
+                getErrorDetailColumn(), getTraceContextColumn(), getFormatJsonOperator(), getUpdatedAtColumn(),
+                getLeaseHolderColumn(), getLeaseExpirationColumn(), getDidColumn(), getLeaseCondition(getParticipantTable()));
+    }
+
+    @Override
+    public @Nullable String getUpsertParticipantTemplate() {
+        return null;
     }
 
     @Override
@@ -50,11 +62,55 @@ public class BaseSqlParticipantStatements implements ParticipantStatements {
         return format("SELECT * FROM %s", getParticipantTable());
     }
 
+    @Override
+    public String getSelectParticipantPageTemplate() {
+        return format("SELECT * FROM %s ORDER BY %s ASC LIMIT ?", getParticipantTable(), getDidColumn());
+    }
+
+    @Override
+    public String getSelectParticipantPageAfterTemplate() {
+        return format("SELECT * FROM %s WHERE %s > ? ORDER BY %s ASC LIMIT ?", getParticipantTable(), getDidColumn(), getDidColumn());
+    }
+
+    @Override
+    public String getSelectParticipantUpdatedSinceTemplate() {
+        return format("SELECT * FROM %s WHERE %s >= ? ORDER BY %s ASC, %s ASC LIMIT ?",
+                getParticipantTable(), getUpdatedAtColumn(), getUpdatedAtColumn(), getDidColumn());
+    }
+
+    @Override
+    public String getSelectParticipantUpdatedSinceAfterTemplate() {
+        // the range on the update time alone lets the (updated_at, did) index bound the scan
+        return format("SELECT * FROM %s WHERE %s >= ? AND (%s > ? OR %s > ?) ORDER BY %s ASC, %s ASC LIMIT ?",
+                getParticipantTable(), getUpdatedAtColumn(), getUpdatedAtColumn(), getDidColumn(), getUpdatedAtColumn(), getDidColumn());
+    }
+
     @Override
     public String getSelectParticipantByStateTemplate() {
         return format("SELECT * FROM %s WHERE %s=?", getParticipantTable(), getStateColumn());
     }
 
+    @Override
+    public String getCountByStateTemplate() {
+        return format("SELECT %s, COUNT(*) FROM %s GROUP BY %s", getStateColumn(), getParticipantTable(), getStateColumn());
+    }
+
+    @Override
+    public String getClaimParticipantsByStateTemplate() {
+        return format("UPDATE %s SET %s=?, %s=? WHERE %s IN (SELECT %s FROM %s WHERE %s=? AND (%s IS NULL OR %s < ?) ORDER BY %s ASC LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING *",
+                getParticipantTable(), getLeaseHolderColumn(), getLeaseExpirationColumn(), getParticipantIdColumn(),
+                getParticipantIdColumn(), getParticipantTable(), getStateColumn(), getLeaseExpirationColumn(), getLeaseExpirationColumn(), getStateTimestampColumn());
+    }
+
+    /**
+     * Condition on the lease of the participant being saved, qualified with the given table. Takes whether the save has
+     * no lease holder and the current time, then the lease holder and the current time again.
+     */
+    protected String getLeaseCondition(String table) {
+        return format("((? AND (%1$s.%2$s IS NULL OR %1$s.%3$s < ?)) OR (%1$s.%2$s = ? AND %1$s.%3$s >= ?))",
+                table, getLeaseHolderColumn(), getLeaseExpirationColumn());
+    }
+
     protected String getFormatJsonOperator() {
         return PostgresDialect.getJsonCastOperator();
     }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.registration.store.sql.schema;
 
+import org.jetbrains.annotations.Nullable;
+
 /**
  * Provides the mapping with columns, statements with the underlying SQL storage system
  */
@@ -60,6 +62,14 @@ public interface ParticipantStatements {
         return "updated_at";
     }
 
+    default String getLeaseHolderColumn() {
+        return "lease_holder";
+    }
+
+    default String getLeaseExpirationColumn() {
+        return "lease_expiration";
+    }
+
 
     /**
      * INSERT clause for participants.
@@ -73,19 +83,72 @@ public interface ParticipantStatements {
     String getSelectParticipantByDidTemplate();
 
     /**
-     * Update statement for participants
+     * Select the last update time of a single participant by DID
+     */
+    String getSelectUpdatedAtByDidTemplate();
+
+    /**
+     * Update statement for participants, releasing the lease. Without lease holder, the participant is only updated if
+     * it is not leased or its lease expired. With a lease holder, it is only updated if that holder's lease has not
+     * expired, as another holder may have claimed it since. Takes, after the DID, whether the save has no lease holder,
+     * the current time, the lease holder and the current time again.
      */
     String getUpdateParticipantTemplate();
 
+    /**
+     * Insert statement for participants that updates the participant with the same DID instead, provided it has the same
+     * id, with the same parameters as {@link #getInsertParticipantsTemplate()}. As for
+     * {@link #getUpdateParticipantTemplate()}, the participant is only updated if its lease allows it, with the lease
+     * parameters given after the insert parameters.
+     *
+     * @return the statement, or null if the dialect has none, in which case participants are looked up before being
+     *         inserted or updated.
+     */
+    @Nullable
+    String getUpsertParticipantTemplate();
+
 
     /**
      * SELECT clause for all participants.
      */
     String getSelectParticipantTemplate();
 
+    /**
+     * SELECT clause for the first participants ordered by DID, up to a limit.
+     */
+    String getSelectParticipantPageTemplate();
+
+    /**
+     * SELECT clause for the participants whose DID comes after a given one, ordered by DID, up to a limit.
+     */
+    String getSelectParticipantPageAfterTemplate();
+
+    /**
+     * SELECT clause for the participants updated at or after a given time, ordered by update time then DID, up to a
+     * limit.
+     */
+    String getSelectParticipantUpdatedSinceTemplate();
+
+    /**
+     * SELECT clause for the participants updated after a given time and DID, ordered by update time then DID, up to a
+     * limit. Takes the update time twice, then the DID and the limit.
+     */
+    String getSelectParticipantUpdatedSinceAfterTemplate();
+
     /**
      * SELECT clause for all participants.
      */
     String getSelectParticipantByStateTemplate();
 
+    /**
+     * SELECT clause for the number of participants in each state, as state and count columns.
+     */
+    String getCountByStateTemplate();
+
+    /**
+     * Update statement that leases a limited number of participants in a given state that are not leased, oldest state
+     * transition first, skipping the rows locked by other transactions, and returns the leased participants.
+     */
+    String getClaimParticipantsByStateTemplate();
+
 }
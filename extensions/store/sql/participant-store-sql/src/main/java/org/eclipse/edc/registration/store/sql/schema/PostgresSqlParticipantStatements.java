@@ -16,11 +16,25 @@ package org.eclipse.edc.registration.store.sql.schema;
 
 import org.eclipse.edc.sql.dialect.PostgresDialect;
 
+import static java.lang.String.format;
+
 /**
  * Extends {@link BaseSqlParticipantStatements} with custom dialect for PG
  */
 public class PostgresSqlParticipantStatements extends BaseSqlParticipantStatements {
 
+    @Override
+    public String getUpsertParticipantTemplate() {
+        return format("%s ON CONFLICT (%s) DO UPDATE SET %s=EXCLUDED.%s, %s=EXCLUDED.%s, %s=EXCLUDED.%s, %s=EXCLUDED.%s, %s=EXCLUDED.%s, %s=EXCLUDED.%s, %s=NULL, %s=NULL " +
+                        "WHERE %s.%s=EXCLUDED.%s AND %s",
+                getInsertParticipantsTemplate(), getDidColumn(),
+                getStateColumn(), getStateColumn(), getStateCountColumn(), getStateCountColumn(),
+                getStateTimestampColumn(), getStateTimestampColumn(), getErrorDetailColumn(), getErrorDetailColumn(),
+                getTraceContextColumn(), getTraceContextColumn(), getUpdatedAtColumn(), getUpdatedAtColumn(),
+                getLeaseHolderColumn(), getLeaseExpirationColumn(),
+                getParticipantTable(), getParticipantIdColumn(), getParticipantIdColumn(), getLeaseCondition(getParticipantTable()));
+    }
+
     @Override
     protected String getFormatJsonOperator() {
         return PostgresDialect.getJsonCastOperator();
@@ -0,0 +1,3 @@
+ALTER TABLE edc_participant
+    ADD COLUMN IF NOT EXISTS lease_holder VARCHAR,
+    ADD COLUMN IF NOT EXISTS lease_expiration BIGINT;
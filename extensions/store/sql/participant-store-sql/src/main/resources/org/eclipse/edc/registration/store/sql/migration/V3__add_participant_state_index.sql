@@ -0,0 +1,2 @@
+-- serves the per-state queries of the state machine, which also order by state_timestamp
+CREATE INDEX IF NOT EXISTS edc_participant_state_timestamp_idx ON edc_participant (state, state_timestamp);
@@ -0,0 +1,2 @@
+-- serves the listing of the participants updated since a given time, which orders by updated_at then did
+CREATE INDEX IF NOT EXISTS edc_participant_updated_at_idx ON edc_participant (updated_at, did);
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.store.sql;
+
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.store.sql.schema.PostgresSqlParticipantStatements;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registration.ParticipantUtils.createParticipant;
+import static org.mockito.Mockito.mock;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class ParticipantSchemaMigratorTest {
+
+    @Test
+    void migrate_emptyDatabase(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws SQLException {
+        var migrator = new ParticipantSchemaMigrator(extension.getDataSourceRegistry(), extension.getDatasourceName(), mock(Monitor.class));
+
+        migrator.migrate();
+        migrator.migrate();
+
+        var store = store(extension, queryExecutor);
+        var participant = createParticipant().build();
+        store.save(participant);
+        assertThat(store.findByDid(participant.getDid())).isNotNull();
+        assertThat(indexExists(extension)).isTrue();
+    }
+
+    @Test
+    void migrate_existingSchema(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws SQLException {
+        extension.runQuery("""
+                CREATE TABLE edc_participant
+                (
+                    id VARCHAR NOT NULL PRIMARY KEY, did VARCHAR NOT NULL UNIQUE, state INTEGER DEFAULT 0 NOT NULL,
+                    state_count INTEGER DEFAULT 0 NOT NULL, state_timestamp BIGINT, error_detail VARCHAR,
+                    trace_context JSON, created_at BIGINT NOT NULL, updated_at BIGINT NOT NULL
+                );""");
+        var migrator = new ParticipantSchemaMigrator(extension.getDataSourceRegistry(), extension.getDatasourceName(), mock(Monitor.class));
+
+        migrator.migrate();
+
+        var store = store(extension, queryExecutor);
+        var participant = createParticipant().build();
+        store.save(participant);
+        assertThat(store.findByDid(participant.getDid())).isNotNull();
+        assertThat(indexExists(extension)).isTrue();
+    }
+
+    @Test
+    void migrate_schemaFromDocs(PostgresqlStoreSetupExtension extension) throws IOException, SQLException {
+        extension.runQuery(Files.readString(Paths.get("docs/schema.sql")));
+        var migrator = new ParticipantSchemaMigrator(extension.getDataSourceRegistry(), extension.getDatasourceName(), mock(Monitor.class));
+
+        migrator.migrate();
+
+        assertThat(indexExists(extension)).isTrue();
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE IF EXISTS " + new PostgresSqlParticipantStatements().getParticipantTable());
+        extension.runQuery("DROP TABLE IF EXISTS " + ParticipantSchemaMigrator.HISTORY_TABLE);
+    }
+
+    private SqlParticipantStore store(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var manager = new TypeManager();
+        manager.registerTypes(Participant.class);
+        return new SqlParticipantStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(), manager.getMapper(),
+                new PostgresSqlParticipantStatements(), queryExecutor, Clock.systemUTC());
+    }
+
+    private boolean indexExists(PostgresqlStoreSetupExtension extension) throws SQLException {
+        return indexExists(extension, "edc_participant_state_timestamp_idx") && indexExists(extension, "edc_participant_updated_at_idx");
+    }
+
+    private boolean indexExists(PostgresqlStoreSetupExtension extension, String name) throws SQLException {
+        var dataSource = extension.getDataSourceRegistry().resolve(extension.getDatasourceName());
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("SELECT 1 FROM pg_indexes WHERE indexname = ?")) {
+            statement.setString(1, name);
+            return statement.executeQuery().next();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.store.sql;
+
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.store.sql.schema.PostgresSqlParticipantStatements;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.concurrent.Semaphore;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.registration.ParticipantUtils.createParticipant;
+import static org.mockito.Mockito.mock;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresParticipantStoreNotifierTest {
+
+    private SqlParticipantStore store;
+    private PostgresParticipantStoreNotifier notifier;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
+        var manager = new TypeManager();
+        manager.registerTypes(Participant.class);
+
+        store = new SqlParticipantStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(), manager.getMapper(),
+                new PostgresSqlParticipantStatements(), queryExecutor, Clock.systemUTC());
+        notifier = new PostgresParticipantStoreNotifier(extension.getDataSourceRegistry(), extension.getDatasourceName(), mock(Monitor.class));
+
+        extension.runQuery(Files.readString(Paths.get("docs/schema.sql")));
+        extension.runQuery(Files.readString(Paths.get("docs/notify.sql")));
+    }
+
+    @Test
+    void notifiesNewParticipants() throws InterruptedException {
+        var notifications = new Semaphore(0);
+        notifier.subscribe(notifications::release);
+        notifier.start();
+        // a first notification is sent once listening
+        assertThat(notifications.tryAcquire(10, SECONDS)).isTrue();
+
+        store.save(createParticipant().did("some.test/url/new").build());
+
+        assertThat(notifications.tryAcquire(10, SECONDS)).isTrue();
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        notifier.stop();
+        extension.runQuery("DROP TABLE " + new PostgresSqlParticipantStatements().getParticipantTable());
+        extension.runQuery("DROP FUNCTION IF EXISTS edc_participant_notify_added");
+    }
+}
@@ -18,11 +18,13 @@ import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.registration.spi.model.Participant;
 import org.eclipse.edc.registration.store.spi.ParticipantStore;
 import org.eclipse.edc.registration.store.spi.ParticipantStoreTestBase;
+import org.eclipse.edc.registration.store.sql.schema.BaseSqlParticipantStatements;
 import org.eclipse.edc.registration.store.sql.schema.PostgresSqlParticipantStatements;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,10 +33,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.edc.registration.ParticipantUtils.createParticipant;
 import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZED;
+import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZING;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
 
 
 @ComponentTest
@@ -50,7 +66,7 @@ class PostgresParticipantStoreTest extends ParticipantStoreTestBase {
         var manager = new TypeManager();
         manager.registerTypes(Participant.class);
 
-        store = new SqlParticipantStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(), manager.getMapper(), statements, queryExecutor);
+        store = new SqlParticipantStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(), manager.getMapper(), statements, queryExecutor, Clock.systemUTC());
 
         var schema = Files.readString(Paths.get("docs/schema.sql"));
         extension.runQuery(schema);
@@ -67,6 +83,84 @@ class PostgresParticipantStoreTest extends ParticipantStoreTestBase {
                 .withMessageStartingWith(String.format("Failed to update Participant with did %s", participant2.getDid()));
     }
 
+    @Test
+    void save_withoutUpsertStatement(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var manager = new TypeManager();
+        manager.registerTypes(Participant.class);
+        var baseStore = new SqlParticipantStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(), manager.getMapper(),
+                new BaseSqlParticipantStatements(), queryExecutor, Clock.systemUTC());
+        var participant = createParticipant().status(AUTHORIZING).build();
+        baseStore.save(participant);
+
+        participant.transitionAuthorized();
+        baseStore.save(participant);
+
+        assertThat(baseStore.findByDid(participant.getDid())).isNotNull()
+                .extracting(Participant::getStatus).isEqualTo(AUTHORIZED);
+        var other = createParticipant().did(participant.getDid()).build();
+        assertThatExceptionOfType(EdcPersistenceException.class).isThrownBy(() -> baseStore.save(other))
+                .withMessageStartingWith(String.format("Failed to update Participant with did %s", participant.getDid()));
+    }
+
+    @Test
+    void claimParticipantsWithStatus_usesSingleStatement(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var countingExecutor = mock(QueryExecutor.class, delegatesTo(queryExecutor));
+        var manager = new TypeManager();
+        manager.registerTypes(Participant.class);
+        var countingStore = new SqlParticipantStore(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(), manager.getMapper(),
+                new PostgresSqlParticipantStatements(), countingExecutor, Clock.systemUTC());
+        countingStore.save(createParticipant().did("did:web:1").status(AUTHORIZED).build());
+        countingStore.save(createParticipant().did("did:web:2").status(AUTHORIZED).build());
+        countingStore.save(createParticipant().did("did:web:3").status(AUTHORIZED).build());
+        clearInvocations(countingExecutor);
+
+        var claimed = countingStore.claimParticipantsWithStatus(AUTHORIZED, 10, "runtime-1", Duration.ofMinutes(1));
+
+        assertThat(claimed).hasSize(3);
+        assertThat(mockingDetails(countingExecutor).getInvocations()).hasSize(1);
+    }
+
+    @Test
+    void streamParticipants_withinTransaction_releasesConnection(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws SQLException {
+        var dataSource = extension.getDataSourceRegistry().resolve(extension.getDatasourceName());
+        var openConnections = new AtomicInteger();
+        var countingDataSource = mock(DataSource.class);
+        when(countingDataSource.getConnection()).thenAnswer(invocation -> {
+            var connection = mock(Connection.class, delegatesTo(dataSource.getConnection()));
+            openConnections.incrementAndGet();
+            doAnswer(close -> {
+                openConnections.decrementAndGet();
+                return null;
+            }).when(connection).close();
+            return connection;
+        });
+        var dataSourceRegistry = mock(DataSourceRegistry.class);
+        when(dataSourceRegistry.resolve(extension.getDatasourceName())).thenReturn(countingDataSource);
+        var manager = new TypeManager();
+        manager.registerTypes(Participant.class);
+        var transactionContext = extension.getTransactionContext();
+        var countingStore = new SqlParticipantStore(dataSourceRegistry, extension.getDatasourceName(), transactionContext, manager.getMapper(),
+                new PostgresSqlParticipantStatements(), queryExecutor, Clock.systemUTC());
+        countingStore.save(createParticipant().did("did:web:1").build());
+        countingStore.save(createParticipant().did("did:web:2").build());
+
+        transactionContext.execute(() -> {
+            try (var participants = countingStore.streamParticipants()) {
+                assertThat(participants).hasSize(2);
+            }
+        });
+        assertThat(openConnections).hasValue(0);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> transactionContext.execute(() -> {
+            try (var participants = countingStore.streamParticipants()) {
+                participants.forEach(participant -> {
+                    throw new IllegalStateException("client gone");
+                });
+            }
+        }));
+        assertThat(openConnections).hasValue(0);
+    }
+
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
         var dialect = new PostgresSqlParticipantStatements();
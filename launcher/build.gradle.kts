@@ -45,6 +45,14 @@ dependencies {
     } else {
         logger.lifecycle("The system property 'useFsVault' was either not specified, or was set to 'false'. The runtime will use the InMemoryVault!")
     }
+
+    // To persist participants in Postgres instead of memory e.g. -DuseSqlStore="true"
+    val useSqlStore: Boolean = System.getProperty("useSqlStore", "false").toBoolean()
+    if (useSqlStore) {
+        runtimeOnly(project(":extensions:store:sql:participant-store-sql"))
+        runtimeOnly(libs.edc.ext.transaction.local)
+        runtimeOnly(libs.edc.ext.sql.pool)
+    }
 }
 
 application {
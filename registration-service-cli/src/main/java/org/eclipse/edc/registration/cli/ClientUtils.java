@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.registration.cli;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.iam.did.crypto.JwtUtils;
 import org.eclipse.edc.registration.client.RegistryApiClient;
@@ -27,6 +28,7 @@ import picocli.CommandLine;
 
 import java.io.IOException;
 import java.time.Clock;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -78,4 +80,27 @@ public class ClientUtils {
         }
         out.println();
     }
+
+    /**
+     * Write the objects returned by an iterator to the writer associated with CommandLine output, as a JSON array.
+     * Each object is written as soon as it is returned, rather than once all of them are.
+     *
+     * @param commandLine {@link CommandLine}
+     * @param iterator    objects to be written on output.
+     */
+    public static void writeToOutput(CommandLine commandLine, Iterator<?> iterator) {
+        var out = commandLine.getOut();
+        try (var generator = MAPPER.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                generator.flush();
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        out.println();
+    }
 }
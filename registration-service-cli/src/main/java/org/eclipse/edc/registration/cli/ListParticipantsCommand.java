@@ -14,8 +14,10 @@
 
 package org.eclipse.edc.registration.cli;
 
+import org.eclipse.edc.spi.EdcException;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
 import picocli.CommandLine.ParentCommand;
 import picocli.CommandLine.Spec;
 
@@ -32,11 +34,29 @@ class ListParticipantsCommand implements Callable<Integer> {
     @Spec
     private CommandSpec spec;
 
+    @Option(names = "--page-size", description = "Fetch the participants in pages of the given size rather than in a single request")
+    private Integer pageSize;
+
     @Override
     public Integer call() throws Exception {
+        if (pageSize != null) {
+            listPaged();
+            return 0;
+        }
         var result = command.cli.registryApiClient.listParticipants();
         var dto = result.orElseThrow(apiFailure -> new CliException(apiFailure.getFailureDetail()));
         writeToOutput(spec.commandLine(), dto);
         return 0;
     }
+
+    /**
+     * Writes the participants as their pages are fetched, so that they are not all held in memory.
+     */
+    private void listPaged() {
+        try {
+            writeToOutput(spec.commandLine(), command.cli.registryApiClient.iterateParticipants(pageSize));
+        } catch (EdcException e) {
+            throw new CliException(e.getMessage(), e);
+        }
+    }
 }
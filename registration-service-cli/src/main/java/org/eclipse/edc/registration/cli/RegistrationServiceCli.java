@@ -18,11 +18,11 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import dev.failsafe.RetryPolicy;
-import okhttp3.OkHttpClient;
 import okhttp3.Response;
 import org.eclipse.edc.connector.core.base.EdcHttpClientImpl;
 import org.eclipse.edc.iam.did.web.resolution.WebDidResolver;
 import org.eclipse.edc.registration.client.RegistryApiClient;
+import org.eclipse.edc.registration.client.RegistryApiClientFactory;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.ConsoleMonitor;
 import org.jetbrains.annotations.NotNull;
@@ -105,7 +105,8 @@ public class RegistrationServiceCli {
 
     @NotNull
     private EdcHttpClient httpClient() {
-        var httpClient = new OkHttpClient.Builder()
+        // share the connections with the registry API client
+        var httpClient = RegistryApiClientFactory.sharedHttpClient().newBuilder()
                 .connectTimeout(30, TimeUnit.SECONDS)
                 .readTimeout(30, TimeUnit.SECONDS)
                 .build();
@@ -30,6 +30,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -76,6 +77,53 @@ class ParticipantsCommandTest {
         assertListParticipants(participants, exitCode, app.dataspaceDid, dataspaceDid);
     }
 
+    @Test
+    void list_paged() throws Exception {
+        var participants = List.of(participant1, participant2);
+        when(app.registryApiClient.iterateParticipants(1))
+                .thenReturn(participants.iterator());
+
+        var exitCode = cmd.execute(
+                "-c", clientDid,
+                "-k", privateKeyFile.toString(),
+                "-d", dataspaceDid,
+                "participants", "list", "--page-size", "1");
+
+        assertListParticipants(participants, exitCode, app.dataspaceDid, dataspaceDid);
+    }
+
+    @Test
+    void list_paged_writesParticipantsAsFetched() throws Exception {
+        var participants = List.of(participant1, participant2);
+        var outputBeforeLast = new StringBuilder();
+        var iterator = participants.iterator();
+        when(app.registryApiClient.iterateParticipants(1))
+                .thenReturn(new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public ParticipantDto next() {
+                        var next = iterator.next();
+                        if (!iterator.hasNext()) {
+                            outputBeforeLast.append(sw);
+                        }
+                        return next;
+                    }
+                });
+
+        var exitCode = cmd.execute(
+                "-c", clientDid,
+                "-k", privateKeyFile.toString(),
+                "-d", dataspaceDid,
+                "participants", "list", "--page-size", "1");
+
+        assertListParticipants(participants, exitCode, app.dataspaceDid, dataspaceDid);
+        assertThat(outputBeforeLast.toString()).contains(participant1.getDid());
+    }
+
     @Test
     void add() {
         var exitCode = executeParticipantsAdd("-d", dataspaceDid);
@@ -22,6 +22,7 @@ dependencyResolutionManagement {
     }
 }
 
+include(":benchmarks")
 include(":core:registration-service")
 include(":core:registration-service-client")
 include(":core:registration-service-credential-service")
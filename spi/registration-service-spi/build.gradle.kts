@@ -5,6 +5,7 @@ plugins {
 
 dependencies {
     api(libs.edc.spi.core)
+    api(libs.edc.spi.identity.did)
     api(libs.edc.spi.policy.engine)
     api(libs.ih.spi.core)
 }
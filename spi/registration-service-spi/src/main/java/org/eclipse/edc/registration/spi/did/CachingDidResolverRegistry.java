@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.spi.did;
+
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+
+/**
+ * {@link DidResolverRegistry} keeping resolved DID documents for a while, so that the components of the registration
+ * service resolving the same DID (e.g. while onboarding a participant and authenticating its requests) share a
+ * single resolution.
+ * <p>
+ * Failed resolutions are kept as well, for a shorter time, so that an unreachable DID is not resolved on each request.
+ */
+public interface CachingDidResolverRegistry extends DidResolverRegistry {
+
+    /**
+     * Removes the cached resolution of the given DID, so that it is resolved again on next use.
+     *
+     * @param did the DID to evict.
+     */
+    void invalidate(String did);
+
+    /**
+     * Number of resolutions served from the cache, or by the resolution of the same DID in progress.
+     */
+    long hitCount();
+
+    /**
+     * Number of resolutions delegated to the resolvers, because the DID was not cached or its entry expired.
+     */
+    long missCount();
+}
@@ -15,6 +15,10 @@
 package org.eclipse.edc.registration.spi.model;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toUnmodifiableMap;
 
 public enum ParticipantStatus {
     ONBOARDING_INITIATED(0), // onboarding request received
@@ -24,15 +28,16 @@ public enum ParticipantStatus {
     DENIED(400), // participant onboarding request denied
     FAILED(-1); // participant onboarding failed
 
-    private final int code;
+    private static final Map<Integer, ParticipantStatus> BY_CODE = Arrays.stream(values()).collect(toUnmodifiableMap(ParticipantStatus::code, Function.identity()));
 
+    private final int code;
 
     ParticipantStatus(int code) {
         this.code = code;
     }
 
     public static ParticipantStatus from(int code) {
-        return Arrays.stream(values()).filter(tps -> tps.code == code).findFirst().orElse(null);
+        return BY_CODE.get(code);
     }
 
     public int code() {
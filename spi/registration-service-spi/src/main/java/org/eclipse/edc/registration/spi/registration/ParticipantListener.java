@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.spi.registration;
+
+import org.eclipse.edc.registration.spi.model.Participant;
+
+/**
+ * Listener notified by the {@link RegistrationService} about participants added to the dataspace.
+ */
+@FunctionalInterface
+public interface ParticipantListener {
+
+    /**
+     * Called once a new participant has been stored.
+     *
+     * @param participant the participant added to the dataspace.
+     */
+    void participantAdded(Participant participant);
+}
@@ -15,9 +15,13 @@
 package org.eclipse.edc.registration.spi.registration;
 
 import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.registration.spi.model.ParticipantStatus;
+import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Registration service for dataspace participants.
@@ -40,10 +44,48 @@ public interface RegistrationService {
      */
     List<Participant> listParticipants();
 
+    /**
+     * List a page of dataspace participants, ordered by DID.
+     *
+     * @param limit maximum number of participants to return.
+     * @param after DID of the last participant of the previous page, or null for the first page.
+     * @return the participants of the page.
+     */
+    List<Participant> listParticipants(int limit, @Nullable String after);
+
+    /**
+     * List a page of the dataspace participants updated since a given time, oldest update first. Participants updated
+     * within a grace period before now are left out until it elapses, so that participants saved late, with an update
+     * time earlier than the ones already listed, are not missed.
+     *
+     * @param updatedSince update time in epoch milliseconds from which participants are listed.
+     * @param after        DID of the last participant of the previous page, updated at {@code updatedSince}, or null for
+     *                     the first page.
+     * @param limit        maximum number of participants to return.
+     * @return the participants of the page.
+     */
+    List<Participant> listParticipantsUpdatedSince(long updatedSince, @Nullable String after, int limit);
+
+    /**
+     * Pass all dataspace participants to the consumer as they are read, without loading them all in memory at once. They
+     * are read within a single transaction, which lasts until the consumer returns for the last participant.
+     *
+     * @param consumer consumer of each participant.
+     */
+    void forEachParticipant(Consumer<Participant> consumer);
+
+    /**
+     * Count the dataspace participants in each state, without listing them.
+     *
+     * @return the number of participants in each state, the states without participants being left out.
+     */
+    Map<ParticipantStatus, Long> countParticipantsByStatus();
+
     /**
      * Add a participant to a dataspace.
      *
      * @param did the DID of the dataspace participant to add.
+     * @return success if the participant was added, a conflict if it is being processed and could not be saved.
      */
-    void addParticipant(String did);
+    ServiceResult<Void> addParticipant(String did);
 }
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.spi.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParticipantStatusTest {
+
+    @ParameterizedTest
+    @EnumSource(ParticipantStatus.class)
+    void from(ParticipantStatus status) {
+        assertThat(ParticipantStatus.from(status.code())).isEqualTo(status);
+    }
+
+    @Test
+    void from_unknownCode() {
+        assertThat(ParticipantStatus.from(42)).isNull();
+    }
+}
@@ -19,16 +19,125 @@ import org.eclipse.edc.registration.spi.model.ParticipantStatus;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 
 public interface ParticipantStore {
 
     @Nullable Participant findByDid(String did);
 
+    /**
+     * Returns when the participant with the given DID was last updated, without reading the whole participant, e.g. to
+     * tell whether a copy read earlier is still current.
+     *
+     * @param did DID of the participant.
+     * @return the last update time of the participant in epoch milliseconds, or null if there is no such participant.
+     */
+    default @Nullable Long findUpdatedAt(String did) {
+        var participant = findByDid(did);
+        return participant != null ? participant.getUpdatedAt() : null;
+    }
+
     List<Participant> listParticipants();
 
-    StoreResult<Participant> save(Participant participant);
+    /**
+     * Lists a page of at most {@code limit} participants, ordered by DID. The next page is obtained by passing the DID of
+     * the last participant of the page as {@code after}.
+     *
+     * @param limit maximum number of participants to return.
+     * @param after DID after which the page starts, or null for the first page.
+     * @return the participants whose DID comes after {@code after}, ordered by DID.
+     */
+    List<Participant> listParticipants(int limit, @Nullable String after);
+
+    /**
+     * Lists at most {@code limit} participants updated since a given time, ordered by last update time then DID, so that
+     * the participants changed since a previous call can be listed page by page. The next page is obtained by passing
+     * the update time and DID of the last participant of the page as {@code updatedSince} and {@code after}.
+     *
+     * @param updatedSince update time in epoch milliseconds from which participants are listed.
+     * @param after        DID after which the participants updated at {@code updatedSince} are listed, or null to list
+     *                     all of them.
+     * @param limit        maximum number of participants to return.
+     * @return the participants updated since {@code updatedSince}, oldest update first.
+     */
+    List<Participant> listParticipantsUpdatedSince(long updatedSince, @Nullable String after, int limit);
+
+    /**
+     * Streams all participants, reading them from the underlying storage as the stream is consumed rather than loading
+     * them all at once. The stream may hold resources such as a database cursor, so it must be consumed and closed within
+     * a single transaction.
+     *
+     * @return all participants.
+     */
+    Stream<Participant> streamParticipants();
+
+    /**
+     * Counts the participants in each state, without reading them. The default implementation streams all participants,
+     * stores should override it with an aggregate query.
+     *
+     * @return the number of participants in each state, the states without participants being left out.
+     */
+    default Map<ParticipantStatus, Long> countByStatus() {
+        try (var participants = streamParticipants()) {
+            return participants.collect(groupingBy(Participant::getStatus, () -> new EnumMap<>(ParticipantStatus.class), counting()));
+        }
+    }
+
+    /**
+     * Saves a participant that is not leased, e.g. a new one.
+     *
+     * @param participant the participant to save.
+     * @return the saved participant, or an ALREADY_LEASED failure if the participant is currently leased.
+     */
+    default StoreResult<Participant> save(Participant participant) {
+        return save(participant, null);
+    }
+
+    /**
+     * Saves a participant claimed by the given lease holder, releasing its lease. The save is rejected if the lease of
+     * the holder on an existing participant has expired, e.g. because processing took longer than the lease, as another
+     * runtime may have claimed the participant in the meantime, and if the participant is leased by another holder whose
+     * lease has not expired.
+     *
+     * @param participant the participant to save.
+     * @param leaseHolder the holder of the lease on the participant, or null if the participant is not leased.
+     * @return the saved participant, or an ALREADY_LEASED failure if the participant is leased by another holder or the
+     *         lease of the holder expired.
+     */
+    StoreResult<Participant> save(Participant participant, @Nullable String leaseHolder);
+
+    /**
+     * Saves all the given participants at once, in a single transaction where the store supports it. Saving a participant
+     * releases its lease, as for {@link #save(Participant, String)}.
+     *
+     * @param participants the participants to save.
+     * @param leaseHolder  the holder of the leases on the participants, or null if they are not leased.
+     * @return success if all the participants were saved, or an ALREADY_LEASED failure, in which case none was saved,
+     *         if any of them is leased by another holder or the lease of the holder on it expired.
+     */
+    StoreResult<Void> saveAll(Collection<Participant> participants, @Nullable String leaseHolder);
 
     Collection<Participant> listParticipantsWithStatus(ParticipantStatus state);
+
+    /**
+     * Claims up to {@code max} participants in the given state on behalf of the given lease holder, the ones that entered
+     * the state first coming first. Participants currently leased by any holder are skipped until their lease expires,
+     * so that several runtimes sharing the same store never process the same participant concurrently. Saving a
+     * participant on behalf of the lease holder releases its lease.
+     *
+     * @param state         state of the participants to claim.
+     * @param max           maximum number of participants to claim.
+     * @param leaseHolder   identifier of the runtime claiming the participants.
+     * @param leaseDuration duration after which the lease expires if the participant has not been saved.
+     * @return the claimed participants, never more than {@code max}.
+     */
+    List<Participant> claimParticipantsWithStatus(ParticipantStatus state, int max, String leaseHolder, Duration leaseDuration);
 }
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.store.spi;
+
+/**
+ * Notifies about participants added to a {@link ParticipantStore} shared by several runtimes, including the ones added
+ * through other runtimes.
+ */
+@FunctionalInterface
+public interface ParticipantStoreNotifier {
+
+    /**
+     * Registers a callback invoked whenever a participant is added to the store. Callbacks are invoked on a thread owned
+     * by the notifier, so they should return quickly.
+     *
+     * @param callback the callback to invoke.
+     */
+    void subscribe(Runnable callback);
+}
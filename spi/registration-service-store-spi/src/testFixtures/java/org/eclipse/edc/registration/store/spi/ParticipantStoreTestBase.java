@@ -15,8 +15,13 @@
 package org.eclipse.edc.registration.store.spi;
 
 import org.eclipse.edc.registration.spi.model.Participant;
+import org.eclipse.edc.spi.result.StoreFailure;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZED;
 import static org.eclipse.edc.registration.spi.model.ParticipantStatus.AUTHORIZING;
@@ -57,6 +62,76 @@ public abstract class ParticipantStoreTestBase {
                 .containsOnly(participant1, participant2);
     }
 
+    @Test
+    void listParticipants_paged() {
+        var participants = List.of(
+                createParticipant().did("did:web:c").build(),
+                createParticipant().did("did:web:a").build(),
+                createParticipant().did("did:web:b").build());
+        participants.forEach(getStore()::save);
+
+        var firstPage = getStore().listParticipants(2, null);
+        var secondPage = getStore().listParticipants(2, firstPage.get(1).getDid());
+
+        assertThat(firstPage).extracting(Participant::getDid).containsExactly("did:web:a", "did:web:b");
+        assertThat(secondPage).extracting(Participant::getDid).containsExactly("did:web:c");
+        assertThat(getStore().listParticipants(2, "did:web:c")).isEmpty();
+    }
+
+    @Test
+    void listParticipantsUpdatedSince() {
+        getStore().save(createParticipant().did("did:web:a").updatedAt(300L).build());
+        getStore().save(createParticipant().did("did:web:b").updatedAt(100L).build());
+        getStore().save(createParticipant().did("did:web:c").updatedAt(200L).build());
+        getStore().save(createParticipant().did("did:web:d").updatedAt(200L).build());
+
+        assertThat(getStore().listParticipantsUpdatedSince(200L, null, 10))
+                .extracting(Participant::getDid).containsExactly("did:web:c", "did:web:d", "did:web:a");
+        assertThat(getStore().listParticipantsUpdatedSince(0L, null, 2))
+                .extracting(Participant::getDid).containsExactly("did:web:b", "did:web:c");
+    }
+
+    @Test
+    void listParticipantsUpdatedSince_paged() {
+        getStore().save(createParticipant().did("did:web:a").updatedAt(300L).build());
+        getStore().save(createParticipant().did("did:web:c").updatedAt(200L).build());
+        getStore().save(createParticipant().did("did:web:d").updatedAt(200L).build());
+
+        var firstPage = getStore().listParticipantsUpdatedSince(0L, null, 1);
+        var last = firstPage.get(0);
+        var secondPage = getStore().listParticipantsUpdatedSince(last.getUpdatedAt(), last.getDid(), 10);
+
+        assertThat(firstPage).extracting(Participant::getDid).containsExactly("did:web:c");
+        assertThat(secondPage).extracting(Participant::getDid).containsExactly("did:web:d", "did:web:a");
+        assertThat(getStore().listParticipantsUpdatedSince(300L, "did:web:a", 10)).isEmpty();
+    }
+
+    @Test
+    void listParticipantsUpdatedSince_updatedParticipant() {
+        var participant = createParticipant().did("did:web:a").status(AUTHORIZED).updatedAt(100L).build();
+        getStore().save(participant);
+        getStore().save(createParticipant().did("did:web:b").updatedAt(200L).build());
+
+        getStore().save(createParticipant().did(participant.getDid()).id(participant.getId()).status(ONBOARDED).updatedAt(300L).build());
+
+        assertThat(getStore().listParticipantsUpdatedSince(200L, "did:web:b", 10))
+                .extracting(Participant::getDid).containsExactly("did:web:a");
+        assertThat(getStore().listParticipantsUpdatedSince(0L, null, 10))
+                .extracting(Participant::getDid).containsExactly("did:web:b", "did:web:a");
+    }
+
+    @Test
+    void streamParticipants() {
+        getStore().save(participant1);
+        getStore().save(participant2);
+
+        try (var participants = getStore().streamParticipants()) {
+            assertThat(participants)
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsOnly(participant1, participant2);
+        }
+    }
+
     @Test
     void listParticipantsWithStatus() {
         Participant participant01 = createParticipant().status(AUTHORIZED).build();
@@ -83,6 +158,37 @@ public abstract class ParticipantStoreTestBase {
         assertThat(participant).usingRecursiveComparison().isEqualTo(participant1);
     }
 
+    @Test
+    void findUpdatedAt() {
+        var participant = createParticipant().status(AUTHORIZED).updatedAt(1000L).build();
+        getStore().save(participant);
+
+        assertThat(getStore().findUpdatedAt(participant.getDid())).isEqualTo(1000L);
+    }
+
+    @Test
+    void findUpdatedAt_null() {
+        assertThat(getStore().findUpdatedAt(participant1.getDid())).isNull();
+    }
+
+    @Test
+    void countByStatus() {
+        getStore().save(createParticipant().did("some.test/url/1").status(AUTHORIZED).build());
+        getStore().save(createParticipant().did("some.test/url/2").status(AUTHORIZING).build());
+        var participant = createParticipant().did("some.test/url/3").status(AUTHORIZED).build();
+        getStore().save(participant);
+
+        participant.transitionOnboarded();
+        getStore().save(participant);
+
+        assertThat(getStore().countByStatus()).isEqualTo(Map.of(AUTHORIZED, 1L, AUTHORIZING, 1L, ONBOARDED, 1L));
+    }
+
+    @Test
+    void countByStatus_empty() {
+        assertThat(getStore().countByStatus()).isEmpty();
+    }
+
     @Test
     void verify_shouldUpdateTransition() {
         var participant = createParticipant().status(AUTHORIZED).build();
@@ -96,5 +202,147 @@ public abstract class ParticipantStoreTestBase {
 
     }
 
+    @Test
+    void claimParticipantsWithStatus() {
+        var participant01 = createParticipant().status(AUTHORIZED).build();
+        var participant02 = createParticipant().did("some.test/url/2").status(AUTHORIZING).build();
+        var participant03 = createParticipant().did("some.test/url/3").status(AUTHORIZED).build();
+        getStore().save(participant01);
+        getStore().save(participant02);
+        getStore().save(participant03);
+
+        assertThat(getStore().claimParticipantsWithStatus(AUTHORIZED, 10, "runtime-1", Duration.ofMinutes(1)))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsOnly(participant01, participant03);
+    }
+
+    @Test
+    void claimParticipantsWithStatus_limitsToMax() {
+        getStore().save(createParticipant().did("some.test/url/1").status(AUTHORIZED).build());
+        getStore().save(createParticipant().did("some.test/url/2").status(AUTHORIZED).build());
+        getStore().save(createParticipant().did("some.test/url/3").status(AUTHORIZED).build());
+
+        assertThat(getStore().claimParticipantsWithStatus(AUTHORIZED, 2, "runtime-1", Duration.ofMinutes(1))).hasSize(2);
+        assertThat(getStore().claimParticipantsWithStatus(AUTHORIZED, 2, "runtime-1", Duration.ofMinutes(1))).hasSize(1);
+    }
+
+    @Test
+    void claimParticipantsWithStatus_oldestFirst() {
+        getStore().save(createParticipant().did("some.test/url/1").status(AUTHORIZED).stateTimestamp(300L).build());
+        getStore().save(createParticipant().did("some.test/url/2").status(AUTHORIZED).stateTimestamp(100L).build());
+        getStore().save(createParticipant().did("some.test/url/3").status(AUTHORIZED).stateTimestamp(200L).build());
+
+        assertThat(getStore().claimParticipantsWithStatus(AUTHORIZED, 2, "runtime-1", Duration.ofMinutes(1)))
+                .extracting(Participant::getDid)
+                .containsExactly("some.test/url/2", "some.test/url/3");
+    }
+
+    @Test
+    void claimParticipantsWithStatus_skipsLeasedParticipants() {
+        getStore().save(participant1);
+
+        assertThat(getStore().claimParticipantsWithStatus(participant1.getStatus(), 10, "runtime-1", Duration.ofMinutes(1))).hasSize(1);
+        assertThat(getStore().claimParticipantsWithStatus(participant1.getStatus(), 10, "runtime-2", Duration.ofMinutes(1))).isEmpty();
+    }
+
+    @Test
+    void claimParticipantsWithStatus_saveReleasesLease() {
+        getStore().save(participant1);
+        var claimed = getStore().claimParticipantsWithStatus(participant1.getStatus(), 10, "runtime-1", Duration.ofMinutes(1));
+
+        getStore().save(claimed.get(0), "runtime-1");
+
+        assertThat(getStore().claimParticipantsWithStatus(participant1.getStatus(), 10, "runtime-2", Duration.ofMinutes(1)))
+                .extracting(Participant::getDid)
+                .containsExactly(participant1.getDid());
+    }
+
+    @Test
+    void save_leasedByOtherHolder_isRejected() {
+        var participant = createParticipant().status(AUTHORIZED).build();
+        getStore().save(participant);
+        var claimed = getStore().claimParticipantsWithStatus(AUTHORIZED, 10, "runtime-1", Duration.ofMinutes(1)).get(0);
+        var stale = createParticipant().did(participant.getDid()).id(participant.getId()).status(ONBOARDED).build();
+
+        var result = getStore().save(stale, "runtime-2");
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(StoreFailure.Reason.ALREADY_LEASED);
+        assertThat(getStore().save(stale).failed()).isTrue();
+        assertThat(getStore().findByDid(participant.getDid())).extracting(Participant::getStatus).isEqualTo(AUTHORIZED);
+        assertThat(getStore().claimParticipantsWithStatus(AUTHORIZED, 10, "runtime-2", Duration.ofMinutes(1))).isEmpty();
+
+        claimed.transitionOnboarded();
+        assertThat(getStore().save(claimed, "runtime-1").succeeded()).isTrue();
+        assertThat(getStore().findByDid(participant.getDid())).extracting(Participant::getStatus).isEqualTo(ONBOARDED);
+    }
+
+    @Test
+    void save_leaseExpired_isRejected() {
+        var participant = createParticipant().status(AUTHORIZED).build();
+        getStore().save(participant);
+        // a negative duration makes the lease expire right away, as if processing took longer than the lease
+        var expired = getStore().claimParticipantsWithStatus(AUTHORIZED, 10, "runtime-1", Duration.ofMinutes(-1)).get(0);
+        expired.transitionOnboarded();
+
+        var result = getStore().save(expired, "runtime-1");
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(StoreFailure.Reason.ALREADY_LEASED);
+
+        var claimed = getStore().claimParticipantsWithStatus(AUTHORIZED, 10, "runtime-2", Duration.ofMinutes(1)).get(0);
+        claimed.transitionFailed();
+        assertThat(getStore().save(claimed, "runtime-2").succeeded()).isTrue();
+        assertThat(getStore().save(expired, "runtime-1").failed()).isTrue();
+        assertThat(getStore().saveAll(List.of(expired), "runtime-1").failed()).isTrue();
+        assertThat(getStore().findByDid(participant.getDid())).extracting(Participant::getStatus).isEqualTo(claimed.getStatus());
+    }
+
+    @Test
+    void saveAll() {
+        getStore().save(participant1);
+        participant1OtherEntry.transitionOnboarded();
+
+        var result = getStore().saveAll(List.of(participant1OtherEntry, participant2), null);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(getStore().listParticipants())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsOnly(participant1OtherEntry, participant2);
+    }
+
+    @Test
+    void saveAll_empty() {
+        var result = getStore().saveAll(List.of(), null);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(getStore().listParticipants()).isEmpty();
+    }
+
+    @Test
+    void saveAll_releasesLeases() {
+        getStore().saveAll(List.of(participant1, participant2), null);
+        var claimed = getStore().claimParticipantsWithStatus(participant1.getStatus(), 10, "runtime-1", Duration.ofMinutes(1));
+
+        getStore().saveAll(claimed, "runtime-1");
+
+        assertThat(getStore().claimParticipantsWithStatus(participant1.getStatus(), 10, "runtime-2", Duration.ofMinutes(1))).hasSize(2);
+    }
+
+    @Test
+    void saveAll_leasedByOtherHolder_savesNone() {
+        getStore().save(participant1);
+        getStore().claimParticipantsWithStatus(participant1.getStatus(), 10, "runtime-1", Duration.ofMinutes(1));
+        participant1OtherEntry.transitionOnboarded();
+
+        var result = getStore().saveAll(List.of(participant2, participant1OtherEntry), "runtime-2");
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(StoreFailure.Reason.ALREADY_LEASED);
+        assertThat(getStore().listParticipants())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsOnly(participant1);
+    }
+
     protected abstract ParticipantStore getStore();
 }
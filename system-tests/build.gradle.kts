@@ -24,6 +24,8 @@ dependencies {
     testImplementation(libs.ih.ext.verifier.jwt)
     testImplementation(libs.ih.ext.credentials.jwt)
     testImplementation(libs.edc.spi.identity.did)
+    testImplementation(libs.edc.ext.identity.did.crypto)
+    testImplementation(libs.edc.spi.http)
     testRuntimeOnly(project(":launcher"))
     testImplementation(libs.awaitility)
     testImplementation(libs.mockserver.netty)
@@ -0,0 +1,282 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Contributors to the Eclipse Foundation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.registration.client;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.eclipse.edc.iam.did.crypto.JwtUtils;
+import org.eclipse.edc.iam.did.spi.key.PrivateKeyWrapper;
+import org.eclipse.edc.registration.cli.ClientUtils;
+import org.eclipse.edc.registration.cli.CryptoUtils;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.HttpStatusCode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
+import static org.eclipse.edc.registration.client.RegistrationServiceTestUtils.MAPPER;
+import static org.eclipse.edc.registration.client.RegistrationServiceTestUtils.didDocument;
+import static org.eclipse.edc.registration.client.model.ParticipantDto.OnboardingStatus.DENIED;
+import static org.eclipse.edc.registration.client.model.ParticipantDto.OnboardingStatus.ONBOARDED;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.stop.Stop.stopQuietly;
+
+/**
+ * Registers many participants concurrently and measures how long they take to be onboarded.
+ * <p>
+ * The DID documents and the Identity Hubs of the participants are served by a local stub server, so that the measure
+ * only depends on the registration service and its store. The registrations are sent through a single http client,
+ * signing the token of each request for the DID of the participant it registers. The results are written to
+ * {@code build/load-test/<store>.json}, to be compared across releases.
+ */
+@LoadTest
+class RegistrationLoadTest {
+
+    private static final String API_URL = "http://localhost:8182/authority";
+    private static final int PARTICIPANTS = intEnv("LOAD_TEST_PARTICIPANTS", 2000);
+    private static final int CONCURRENCY = intEnv("LOAD_TEST_CONCURRENCY", 200);
+    private static final Duration TIMEOUT = Duration.ofMinutes(intEnv("LOAD_TEST_TIMEOUT_MINUTES", 10));
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+    private static final String STORE = Objects.requireNonNullElse(System.getenv("LOAD_TEST_STORE"), "in-memory");
+    /**
+     * Reply of the Identity Hub to the membership credential pushed by the registration service.
+     */
+    private static final String IDENTITY_HUB_RESPONSE = "{\"requestId\":\"load-test\"," +
+            "\"status\":{\"code\":200,\"detail\":\"The request was successfully processed\"}," +
+            "\"replies\":[{\"messageId\":\"load-test\",\"status\":{\"code\":200,\"detail\":\"The message was successfully processed\"},\"entries\":[]}]}";
+
+    private ClientAndServer stubServer;
+    private int stubPort;
+    private PrivateKeyWrapper privateKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ConfigurationProperties.logLevel("WARN");
+        stubPort = getFreePort();
+        stubServer = startClientAndServer(stubPort);
+        // all participants share the same key and Identity Hub, each one has its own DID resolving under /participants
+        stubServer.when(request().withMethod("GET").withPath("/participants/.*/did.json"))
+                .respond(response()
+                        .withBody(didDocument("http://host.docker.internal:" + stubPort + "/identity-hub"))
+                        .withStatusCode(HttpStatusCode.OK_200.code()));
+        stubServer.when(request().withMethod("POST").withPath("/identity-hub"))
+                .respond(response()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(IDENTITY_HUB_RESPONSE)
+                        .withStatusCode(HttpStatusCode.OK_200.code()));
+        privateKey = CryptoUtils.parseFromPemEncodedObjects(TestKeyData.PRIVATE_KEY_P256);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stopQuietly(stubServer);
+    }
+
+    @Test
+    void registrationStorm() throws Exception {
+        // participants of previous runs are still in the store, the ones of this run are told apart by their DID
+        var runId = UUID.randomUUID().toString();
+        var dids = IntStream.range(0, PARTICIPANTS).mapToObj(i -> participantDid(runId + "-" + i)).toList();
+        var registeredAt = new ConcurrentHashMap<String, Long>();
+        var failures = new ConcurrentLinkedQueue<String>();
+
+        var httpClient = RegistryApiClientFactory.createHttpClient(CONCURRENCY, Duration.ofMinutes(5), CONCURRENCY, CONCURRENCY)
+                .newBuilder()
+                .addInterceptor(this::signForParticipant)
+                .build();
+
+        var start = System.nanoTime();
+        var permits = new Semaphore(CONCURRENCY);
+        var requests = new ArrayList<CompletableFuture<?>>();
+        for (var did : dids) {
+            permits.acquire();
+            registeredAt.put(did, System.nanoTime());
+            requests.add(register(httpClient, did).handle((result, throwable) -> {
+                permits.release();
+                if (throwable != null) {
+                    failures.add(did + ": " + throwable.getMessage());
+                }
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+        var registrationEnd = System.nanoTime();
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+        assertThat(failures).as("failed registrations").isEmpty();
+
+        var onboardedAt = awaitOnboarding(dids, start + TIMEOUT.toNanos(), failures);
+
+        var report = report(dids, start, registrationEnd, registeredAt, onboardedAt);
+        var resultFile = Path.of("build", "load-test", STORE + ".json");
+        Files.createDirectories(resultFile.getParent());
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), report);
+
+        assertThat(failures).as("participants not onboarded").isEmpty();
+        assertThat(onboardedAt).as("participants onboarded within " + TIMEOUT).hasSize(PARTICIPANTS);
+    }
+
+    /**
+     * Polls the participant list until all participants are onboarded, or the deadline is reached. A participant is
+     * considered onboarded when the list returned after its transition completes, so the measured times are at most one
+     * poll longer than the actual ones.
+     */
+    private Map<String, Long> awaitOnboarding(List<String> dids, long deadline, Queue<String> failures) throws InterruptedException {
+        var observer = ClientUtils.createApiClient(API_URL, participantDid("observer-" + UUID.randomUUID()), TestKeyData.PRIVATE_KEY_P256);
+        var pending = new HashSet<>(dids);
+        var onboardedAt = new HashMap<String, Long>();
+        while (!pending.isEmpty() && System.nanoTime() < deadline) {
+            var onboarded = new ArrayList<String>();
+            var result = observer.forEachParticipant(participant -> {
+                if (pending.remove(participant.getDid())) {
+                    if (participant.getStatus() == ONBOARDED) {
+                        onboarded.add(participant.getDid());
+                    } else if (participant.getStatus() == DENIED) {
+                        failures.add(participant.getDid() + ": denied");
+                    } else {
+                        pending.add(participant.getDid());
+                    }
+                }
+            });
+            assertThat(result.succeeded()).as("list participants").isTrue();
+            var now = System.nanoTime();
+            onboarded.forEach(did -> onboardedAt.put(did, now));
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        return onboardedAt;
+    }
+
+    private Map<String, Object> report(List<String> dids, long start, long registrationEnd, Map<String, Long> registeredAt, Map<String, Long> onboardedAt) {
+        var latencies = dids.stream()
+                .filter(onboardedAt::containsKey)
+                .mapToLong(did -> onboardedAt.get(did) - registeredAt.get(did))
+                .sorted()
+                .toArray();
+        var end = onboardedAt.values().stream().mapToLong(Long::longValue).max().orElse(registrationEnd);
+
+        var report = new LinkedHashMap<String, Object>();
+        report.put("store", STORE);
+        report.put("participants", dids.size());
+        report.put("concurrency", CONCURRENCY);
+        report.put("onboarded", latencies.length);
+        report.put("registrationsPerSecond", perSecond(dids.size(), registrationEnd - start));
+        report.put("onboardingsPerSecond", perSecond(latencies.length, end - start));
+        report.put("timeToOnboardedP50Millis", percentileMillis(latencies, 50));
+        report.put("timeToOnboardedP99Millis", percentileMillis(latencies, 99));
+        report.put("timeToOnboardedMaxMillis", percentileMillis(latencies, 100));
+        return report;
+    }
+
+    /**
+     * Registers the participant with the given DID, the returned future completes once the registration is accepted.
+     */
+    private CompletableFuture<Void> register(OkHttpClient httpClient, String did) {
+        var request = new Request.Builder()
+                .post(RequestBody.create(new byte[0]))
+                .url(API_URL + "/registry/participant")
+                .tag(String.class, did)
+                .build();
+        var future = new CompletableFuture<Void>();
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try (response) {
+                    if (response.isSuccessful()) {
+                        future.complete(null);
+                    } else {
+                        future.completeExceptionally(new IOException(format("Registration failed: %s %s", response.code(), response.message())));
+                    }
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Adds a token issued by the participant whose DID the request is tagged with.
+     */
+    private Response signForParticipant(Interceptor.Chain chain) throws IOException {
+        var request = chain.request();
+        var did = Objects.requireNonNull(request.tag(String.class), "participant DID");
+        var token = JwtUtils.create(privateKey, did, did, API_URL, Clock.systemUTC()).serialize();
+        return chain.proceed(request.newBuilder()
+                .header("Authorization", format("Bearer %s", token))
+                .build());
+    }
+
+    /**
+     * DID resolved by the registration service, from its container, to a document served by the stub server.
+     */
+    private String participantDid(String name) {
+        return "did:web:host.docker.internal%3A" + stubPort + ":participants:" + name;
+    }
+
+    private static double perSecond(int count, long nanos) {
+        return nanos > 0 ? count * 1_000_000_000.0 / nanos : 0;
+    }
+
+    /**
+     * Nearest-rank percentile of the sorted latencies, in milliseconds.
+     */
+    private static long percentileMillis(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        var rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        return Duration.ofNanos(sortedNanos[Math.max(rank, 1) - 1]).toMillis();
+    }
+
+    private static int intEnv(String name, int defaultValue) {
+        var value = System.getenv(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
@@ -41,11 +41,15 @@ class RegistrationServiceTestUtils {
     }
 
     @NotNull
-    private static Service identityHub() {
-        return new Service("#identity-hub", "IdentityHub", IDENTITY_HUB_URL);
+    private static Service identityHub(String identityHubUrl) {
+        return new Service("#identity-hub", "IdentityHub", identityHubUrl);
     }
 
     static String didDocument() throws Exception {
+        return didDocument(IDENTITY_HUB_URL);
+    }
+
+    static String didDocument(String identityHubUrl) throws Exception {
         var publicKey = (ECKey) ECKey.parseFromPEMEncodedObjects(TestKeyData.PUBLIC_KEY_P256);
         var vm = VerificationMethod.Builder.create()
                 .id("#my-key-1")
@@ -55,7 +59,7 @@ class RegistrationServiceTestUtils {
                 .build();
         var didDocument = DidDocument.Builder.newInstance()
                 .verificationMethod(List.of(vm))
-                .service(List.of(identityHub()))
+                .service(List.of(identityHub(identityHubUrl)))
                 .build();
         return MAPPER.writeValueAsString(didDocument);
     }